@@ -0,0 +1,182 @@
+package org.folio.mosaic.benchmark;
+
+import static org.folio.rest.acq.model.mosaic.MosaicCustomFields.EntityType.PO_LINE;
+import static org.folio.rest.acq.model.mosaic.MosaicCustomFields.EntityType.PURCHASE_ORDER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.mosaic.service.ElectronicMapper;
+import org.folio.mosaic.service.MosaicOrderConverter;
+import org.folio.mosaic.service.MosaicPoLineConverter;
+import org.folio.mosaic.service.OrderTemplatePrototype;
+import org.folio.mosaic.service.PhysicalMapper;
+import org.folio.mosaic.util.error.CustomFieldsUtil;
+import org.folio.rest.acq.model.mosaic.Contributor;
+import org.folio.rest.acq.model.mosaic.Eresource;
+import org.folio.rest.acq.model.mosaic.FundDistribution;
+import org.folio.rest.acq.model.mosaic.MosaicCustomFields;
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
+import org.folio.rest.acq.model.mosaic.Physical;
+import org.folio.rest.acq.model.mosaic.ReferenceNumberItem;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orders.Cost;
+import org.folio.rest.acq.model.orders.CustomFields;
+import org.folio.rest.acq.model.orders.OrderFormat;
+import org.folio.rest.acq.model.orders.PoLine;
+import org.folio.rest.jaxrs.model.acq.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures the conversion of a mosaic order into a CompositePurchaseOrder, as a whole and per step,
+ * for requests ranging from a single location, fund and custom field to <code>size</code> of each.
+ * Run with the GC profiler (default <code>jmh.args</code>) to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MosaicOrderConversionBenchmark {
+
+  @Param({"1", "25", "100"})
+  private int size;
+
+  private PhysicalMapper physicalMapper;
+  private ElectronicMapper electronicMapper;
+  private MosaicPoLineConverter mosaicPoLineConverter;
+  private MosaicOrderConverter mosaicOrderConverter;
+  private OrderTemplatePrototype prototype;
+  private MosaicOrder mosaicOrder;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = JsonMapper.builder()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+      .build();
+    physicalMapper = new PhysicalMapper();
+    electronicMapper = new ElectronicMapper();
+    mosaicPoLineConverter = new MosaicPoLineConverter(physicalMapper, electronicMapper);
+    mosaicOrderConverter = new MosaicOrderConverter(mosaicPoLineConverter, objectMapper);
+    prototype = OrderTemplatePrototype.compile(template(), objectMapper);
+    mosaicOrder = mosaicOrder(size);
+  }
+
+  @Benchmark
+  public CompositePurchaseOrder convertToCompositePurchaseOrder() {
+    return mosaicOrderConverter.convertToCompositePurchaseOrder(mosaicOrder, prototype);
+  }
+
+  @Benchmark
+  public CompositePurchaseOrder applyOverridesToPoLine() {
+    var order = prototype.newOrder();
+    mosaicPoLineConverter.applyOverridesToPoLine(order, mosaicOrder);
+    return order;
+  }
+
+  @Benchmark
+  public PoLine updatePoLinePhysical() {
+    var poLine = new PoLine();
+    physicalMapper.updatePoLinePhysical(mosaicOrder, poLine);
+    return poLine;
+  }
+
+  @Benchmark
+  public PoLine updatePoLineEResource() {
+    var poLine = new PoLine();
+    electronicMapper.updatePoLineEResource(mosaicOrder, poLine);
+    return poLine;
+  }
+
+  @Benchmark
+  public Map<MosaicCustomFields.EntityType, CustomFields> partitionCustomFields() {
+    return CustomFieldsUtil.partitionByEntityType(mosaicOrder);
+  }
+
+  private static Pair<CompositePurchaseOrder, PoLine> template() {
+    var orderTemplate = new CompositePurchaseOrder()
+      .withId("ed0a7b37-6b4d-4f0c-9f44-6a1ad43a4c07")
+      .withOrderType(CompositePurchaseOrder.OrderType.ONE_TIME)
+      .withAcqUnitIds(new ArrayList<>(List.of("0ebb1f7d-983f-3026-8a4c-5318e0ebc041")));
+    var poLineTemplate = new PoLine()
+      .withTitleOrPackage("Default Title")
+      .withOrderFormat(OrderFormat.PHYSICAL_RESOURCE)
+      .withCost(new Cost()
+        .withListUnitPrice(1.0)
+        .withListUnitPriceElectronic(1.0)
+        .withCurrency("USD")
+        .withQuantityPhysical(1)
+        .withQuantityElectronic(0))
+      .withPhysical(new org.folio.rest.acq.model.orders.Physical().withMaterialType("book"));
+    return Pair.of(orderTemplate, poLineTemplate);
+  }
+
+  private static MosaicOrder mosaicOrder(int size) {
+    var locations = new ArrayList<Location>();
+    var fundDistributions = new ArrayList<FundDistribution>();
+    var contributors = new ArrayList<Contributor>();
+    var customFields = new ArrayList<MosaicCustomFields>();
+    for (int i = 0; i < size; i++) {
+      locations.add(new Location()
+        .withLocationId("184aae84-a5bf-4c6a-85ba-4a7c7302%04d".formatted(i))
+        .withQuantity(2)
+        .withQuantityPhysical(1)
+        .withQuantityElectronic(1));
+      fundDistributions.add(new FundDistribution()
+        .withFundId("7fbd5d84-62d1-44c6-9c45-6cb173998b%02d".formatted(i % 100))
+        .withCode("FUND-" + i)
+        .withDistributionType(FundDistribution.DistributionType.PERCENTAGE)
+        .withValue(100.0 / size));
+      contributors.add(new Contributor()
+        .withContributor("Contributor " + i)
+        .withContributorNameTypeId("2b94c631-fca9-4892-a730-03ee529ffe2a"));
+      customFields.add(new MosaicCustomFields()
+        .withRefId("field" + i)
+        .withEntityType(i % 2 == 0 ? PURCHASE_ORDER : PO_LINE)
+        .withAdditionalProperty("value", "value" + i));
+    }
+
+    return new MosaicOrder()
+      .withTitle("Benchmark title")
+      .withFormat(MosaicOrder.OrderFormat.P_E_MIX)
+      .withWorkflowStatus(MosaicOrder.WorkflowStatus.OPEN)
+      .withListUnitPrice(10.0)
+      .withListUnitPriceElectronic(15.0)
+      .withQuantityPhysical(size)
+      .withQuantityElectronic(size)
+      .withLocations(locations)
+      .withFundDistribution(fundDistributions)
+      .withContributors(contributors)
+      .withCustomFields(customFields)
+      .withPhysical(new Physical()
+        .withMaterialType("1a54b431-2e4f-452d-9cae-9cee66c9a892")
+        .withMaterialSupplier("e0fb5df2-cdf1-11e8-a8d5-f2801f1b9fd1")
+        .withCreateInventory(Physical.CreateInventory.INSTANCE_HOLDING_ITEM))
+      .withEresource(new Eresource()
+        .withMaterialType("615b8413-82d5-4203-aa6e-e37984cb5ac3")
+        .withAccessProvider("e0fb5df2-cdf1-11e8-a8d5-f2801f1b9fd1")
+        .withUserLimit("10")
+        .withCreateInventory(Eresource.CreateInventory.INSTANCE_HOLDING))
+      .withReferenceNumbers(List.of(new ReferenceNumberItem()
+        .withRefNumber("mosaic-ref-123")
+        .withRefNumberType(ReferenceNumberItem.RefNumberType.VENDOR_CONTINUATION_REFERENCE_NUMBER)));
+  }
+}
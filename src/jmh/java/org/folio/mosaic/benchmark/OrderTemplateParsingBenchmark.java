@@ -0,0 +1,153 @@
+package org.folio.mosaic.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.mosaic.cache.OrderTemplateCache;
+import org.folio.mosaic.client.OrdersClient;
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.mosaic.config.TemplateMirrorProperties;
+import org.folio.mosaic.metrics.OrderStageMetrics;
+import org.folio.mosaic.service.OrderTemplateMirrorService;
+import org.folio.mosaic.service.OrderTemplatePrototype;
+import org.folio.mosaic.service.OrdersService;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orders.OrderTemplate;
+import org.folio.rest.acq.model.orders.PoLine;
+import org.folio.spring.FolioExecutionContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.ClassPathResource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Measures how an order template response of mod-orders becomes a compiled template, on the production path:
+ * <code>templateFetch</code> goes through {@link OrdersService} with the template cache disabled, so every
+ * operation parses the response stream and compiles it with {@link OrderTemplatePrototype#compile}, and
+ * <code>templateCompile</code> isolates the compilation of an already parsed template. The original buffered
+ * deserialization (buffer copy + two binds over the same bytes) is kept as the baseline.
+ * Run with the GC profiler (default <code>jmh.args</code>) to see the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderTemplateParsingBenchmark {
+
+  @Param({"1", "25", "100"})
+  private int locations;
+
+  private ObjectMapper objectMapper;
+  private byte[] templateBytes;
+  private JsonNode templateTree;
+  private String templateId;
+  private OrdersService ordersService;
+
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper = JsonMapper.builder()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+      .build();
+    try (var inputStream = new ClassPathResource("default_order_template.json").getInputStream()) {
+      var template = (ObjectNode) objectMapper.readTree(inputStream);
+      var locationsNode = template.putArray("locations");
+      for (int i = 0; i < locations; i++) {
+        locationsNode.addObject()
+          .put("locationId", "184aae84-a5bf-4c6a-85ba-4a7c7302%04d".formatted(i))
+          .put("quantityElectronic", 1);
+      }
+      templateBytes = objectMapper.writeValueAsBytes(template);
+      templateTree = template;
+      templateId = template.path("id").asString();
+    }
+
+    var folioExecutionContext = new FolioExecutionContext() {};
+    var meterRegistry = new SimpleMeterRegistry();
+    var cacheProperties = new CacheProperties();
+    cacheProperties.getTemplates().setEnabled(false);
+    cacheProperties.getMissingTemplates().setEnabled(false);
+    var mirrorProperties = new TemplateMirrorProperties();
+    mirrorProperties.setEnabled(false);
+    var ordersClient = new TemplateResponseClient();
+    ordersService = new OrdersService(ordersClient,
+      new OrderTemplateCache(folioExecutionContext, cacheProperties, meterRegistry, Runnable::run),
+      new OrderTemplateMirrorService(null, ordersClient, null, null, null, mirrorProperties, folioExecutionContext,
+        objectMapper),
+      null, null, null, null, new OrderStageMetrics(meterRegistry, folioExecutionContext), null, null, objectMapper);
+  }
+
+  @Benchmark
+  public OrderTemplatePrototype templateFetch() {
+    return ordersService.getOrderTemplatePrototype(templateId);
+  }
+
+  @Benchmark
+  public OrderTemplatePrototype templateCompile() {
+    return OrderTemplatePrototype.compile(templateTree, objectMapper);
+  }
+
+  @Benchmark
+  public Pair<CompositePurchaseOrder, PoLine> bufferedDoubleBindBaseline() throws IOException {
+    try (InputStream inputStream = new ByteArrayInputStream(templateBytes)) {
+      var byteArrayOutputStream = new ByteArrayOutputStream();
+      inputStream.transferTo(byteArrayOutputStream);
+
+      var byteArray = byteArrayOutputStream.toByteArray();
+      var order = objectMapper.readValue(byteArray, new TypeReference<CompositePurchaseOrder>() {});
+      var poLine = objectMapper.readValue(byteArray, new TypeReference<PoLine>() {});
+      if (order == null || order.getId() == null) {
+        return null;
+      }
+      return Pair.of(order, poLine);
+    }
+  }
+
+  /**
+   * Answers every template fetch with a fresh stream over the template, as the http service client would.
+   */
+  private final class TemplateResponseClient implements OrdersClient {
+
+    @Override
+    public InputStream createOrderAsResponse(CompositePurchaseOrder order) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Optional<InputStream> getOrderTemplateAsResponse(String templateId) {
+      return Optional.of(new ByteArrayInputStream(templateBytes));
+    }
+
+    @Override
+    public JsonNode getOrderTemplates(String query, int offset, int limit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void createOrderTemplate(OrderTemplate template) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
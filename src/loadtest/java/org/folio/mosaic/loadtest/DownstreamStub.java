@@ -0,0 +1,196 @@
+package org.folio.mosaic.loadtest;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import org.springframework.core.io.ClassPathResource;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Local stand-in for the downstream modules called by mod-mosaic: it serves order templates, lists the templates
+ * served so far, accepts composite orders and answers the organization and custom field lookups with empty
+ * collections. It does not stand in for the users, login and permissions modules, so the module under test
+ * must run with its system user disabled.
+ * <br><br>
+ * Each response is delayed by the configured latency (plus a uniform jitter) and fails with the configured
+ * status at the configured rate, so that slow or flaky downstreams can be reproduced on a single box.
+ */
+@Log4j2
+public final class DownstreamStub implements AutoCloseable {
+
+  private static final String ORDER_TEMPLATES_PATH = "/orders/order-templates/";
+  private static final String ORDER_TEMPLATE_LIST_PATH = "/orders/order-templates";
+  private static final String COMPOSITE_ORDERS_PATH = "/orders/composite-orders";
+  private static final String ORGANIZATIONS_PATH = "/organizations/organizations";
+  private static final String CUSTOM_FIELDS_PATH = "/custom-fields";
+  private static final byte[] EMPTY_ORGANIZATIONS = "{\"organizations\":[],\"totalRecords\":0}".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] EMPTY_CUSTOM_FIELDS = "{\"customFields\":[],\"totalRecords\":0}".getBytes(StandardCharsets.UTF_8);
+  private static final Pattern AFTER_ID = Pattern.compile("id>\"([^\"]+)\"");
+
+  /**
+   * @param templateLatency Latency of the order template fetches
+   * @param orderLatency    Latency of the order creation
+   * @param jitter          Fraction of the latency added or subtracted at random, 0 for a fixed latency
+   * @param errorRate       Fraction of the requests failing with the error status
+   * @param errorStatus     Status of the failed requests
+   */
+  public record Settings(Duration templateLatency, Duration orderLatency, double jitter, double errorRate,
+                         int errorStatus) {
+  }
+
+  private final Settings settings;
+  private final ObjectMapper objectMapper;
+  private final ObjectNode templateSource;
+  private final Map<String, byte[]> templates = new ConcurrentHashMap<>();
+  private final AtomicLong poNumbers = new AtomicLong(10000);
+  private final HttpServer server;
+
+  public DownstreamStub(int port, Settings settings, ObjectMapper objectMapper) throws IOException {
+    this.settings = settings;
+    this.objectMapper = objectMapper;
+    try (var inputStream = new ClassPathResource("default_order_template.json").getInputStream()) {
+      this.templateSource = (ObjectNode) objectMapper.readTree(inputStream);
+    }
+    this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+    server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    server.createContext("/", this::handle);
+  }
+
+  public void start() {
+    server.start();
+    log.info("start:: Downstream stub listening on port: {} with settings: {}", getPort(), settings);
+  }
+
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  public String getUrl() {
+    return "http://localhost:" + getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      var method = exchange.getRequestMethod();
+      var path = exchange.getRequestURI().getPath();
+      var body = exchange.getRequestBody().readAllBytes();
+
+      if ("GET".equals(method) && path.equals(ORDER_TEMPLATE_LIST_PATH)) {
+        respond(exchange, settings.templateLatency(), 200, templateList(exchange.getRequestURI().getQuery()));
+      } else if ("GET".equals(method) && path.startsWith(ORDER_TEMPLATES_PATH)) {
+        respond(exchange, settings.templateLatency(), 200, template(path.substring(ORDER_TEMPLATES_PATH.length())));
+      } else if ("POST".equals(method) && path.equals(COMPOSITE_ORDERS_PATH)) {
+        respond(exchange, settings.orderLatency(), 201, createdOrder(body));
+      } else if ("GET".equals(method) && path.equals(ORGANIZATIONS_PATH)) {
+        respond(exchange, Duration.ZERO, 200, EMPTY_ORGANIZATIONS);
+      } else if ("GET".equals(method) && path.equals(CUSTOM_FIELDS_PATH)) {
+        respond(exchange, Duration.ZERO, 200, EMPTY_CUSTOM_FIELDS);
+      } else {
+        exchange.sendResponseHeaders(404, -1);
+      }
+    }
+  }
+
+  private void respond(HttpExchange exchange, Duration latency, int status, byte[] body) throws IOException {
+    sleep(latency);
+    var random = ThreadLocalRandom.current();
+    if (settings.errorRate() > 0 && random.nextDouble() < settings.errorRate()) {
+      exchange.sendResponseHeaders(settings.errorStatus(), -1);
+      return;
+    }
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, body.length);
+    exchange.getResponseBody().write(body);
+  }
+
+  private byte[] template(String templateId) {
+    return templates.computeIfAbsent(templateId, id -> {
+      var template = templateSource.deepCopy();
+      template.put("id", id);
+      return objectMapper.writeValueAsBytes(template);
+    });
+  }
+
+  /**
+   * Pages through the templates served so far in the order of their ids. Of the CQL query of the template syncs only
+   * the <code>id&gt;</code> clause of the keyset paging is evaluated, the served templates share their updatedDate.
+   */
+  private byte[] templateList(String query) {
+    var params = new HashMap<String, String>();
+    if (query != null) {
+      for (var param : query.split("&")) {
+        var separator = param.indexOf('=');
+        if (separator > 0) {
+          params.put(param.substring(0, separator), param.substring(separator + 1));
+        }
+      }
+    }
+    var offset = Integer.parseInt(params.getOrDefault("offset", "0"));
+    var limit = Integer.parseInt(params.getOrDefault("limit", "10"));
+    var after = AFTER_ID.matcher(URLDecoder.decode(params.getOrDefault("query", ""), StandardCharsets.UTF_8));
+    var afterId = after.find() ? after.group(1) : "";
+    var page = objectMapper.createObjectNode();
+    var orderTemplates = page.putArray("orderTemplates");
+    new TreeMap<>(templates).tailMap(afterId, false).values().stream()
+      .skip(offset)
+      .limit(limit)
+      .forEach(template -> orderTemplates.add(objectMapper.readTree(template)));
+    page.put("totalRecords", templates.size());
+    return objectMapper.writeValueAsBytes(page);
+  }
+
+  /**
+   * Echoes the composite order back with a PO number and poLine numbers assigned, as mod-orders does.
+   */
+  private byte[] createdOrder(byte[] body) {
+    var order = (ObjectNode) objectMapper.readTree(body);
+    var poNumber = String.valueOf(poNumbers.incrementAndGet());
+    if (!order.hasNonNull("id")) {
+      order.put("id", UUID.randomUUID().toString());
+    }
+    order.put("poNumber", poNumber);
+    var poLines = order.withArray("poLines");
+    for (int i = 0; i < poLines.size(); i++) {
+      ((ObjectNode) poLines.get(i)).put("poLineNumber", poNumber + "-" + (i + 1));
+    }
+    return objectMapper.writeValueAsBytes(order);
+  }
+
+  private void sleep(Duration latency) {
+    if (latency.isZero()) {
+      return;
+    }
+    var nanos = latency.toNanos();
+    if (settings.jitter() > 0) {
+      nanos += (long) (nanos * settings.jitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1));
+    }
+    try {
+      Thread.sleep(Duration.ofNanos(Math.max(nanos, 0)));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
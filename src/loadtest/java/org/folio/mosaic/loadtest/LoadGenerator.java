@@ -0,0 +1,81 @@
+package org.folio.mosaic.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Open-loop load generator: requests are started at a fixed rate regardless of how many are still in flight,
+ * which is how independent clients behave, each on its own virtual thread.
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class LoadGenerator {
+
+  private final HttpClient httpClient;
+
+  /**
+   * Sends requests at the given rate for the given duration and waits for all of them to complete.
+   *
+   * @param rate     Requests per second
+   * @param duration Duration of the run
+   * @param requests Supplier of the request to send, called once per request
+   * @return Report of the run
+   */
+  public LoadReport run(int rate, Duration duration, Supplier<HttpRequest> requests) {
+    var total = Math.toIntExact(duration.toSeconds() * rate);
+    var intervalNanos = 1_000_000_000L / rate;
+    var latencies = new long[total];
+    var completed = new AtomicInteger();
+    var outcomes = new ConcurrentHashMap<String, LongAdder>();
+
+    log.info("run:: Sending {} requests at {} req/s", total, rate);
+    var start = System.nanoTime();
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < total; i++) {
+        var intendedStart = start + i * intervalNanos;
+        waitUntil(intendedStart);
+        var request = requests.get();
+        executor.execute(() -> {
+          var outcome = send(request);
+          latencies[completed.getAndIncrement()] = System.nanoTime() - intendedStart;
+          outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+        });
+      }
+    }
+    var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    return new LoadReport(elapsed, latencies, outcomes.entrySet().stream()
+      .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum())));
+  }
+
+  private String send(HttpRequest request) {
+    try {
+      return String.valueOf(httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return e.getClass().getSimpleName();
+    } catch (Exception e) {
+      return e.getClass().getSimpleName();
+    }
+  }
+
+  private static void waitUntil(long nanoTime) {
+    long remaining;
+    while ((remaining = nanoTime - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+}
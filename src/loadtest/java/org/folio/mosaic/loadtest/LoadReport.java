@@ -0,0 +1,71 @@
+package org.folio.mosaic.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of a load run. Latencies are measured from the intended start of each request, so a stalled
+ * module shows up in the tail instead of silently lowering the offered rate (coordinated omission).
+ *
+ * @param elapsed   Wall clock time from the first scheduled request to the last completed one
+ * @param latencies Latency of every completed request in nanoseconds, sorted ascending
+ * @param outcomes  Number of requests per response status, or per exception for requests without a response
+ */
+public record LoadReport(Duration elapsed, long[] latencies, Map<String, Long> outcomes) {
+
+  public LoadReport {
+    latencies = latencies.clone();
+    Arrays.sort(latencies);
+    outcomes = new TreeMap<>(outcomes);
+  }
+
+  public long requests() {
+    return outcomes.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  /**
+   * @return Number of requests that did not get a 2xx response
+   */
+  public long errors() {
+    return outcomes.entrySet().stream()
+      .filter(entry -> !entry.getKey().startsWith("2"))
+      .mapToLong(Map.Entry::getValue)
+      .sum();
+  }
+
+  /**
+   * @return Completed requests per second
+   */
+  public double throughput() {
+    return elapsed.isZero() ? 0 : requests() * 1e9 / elapsed.toNanos();
+  }
+
+  /**
+   * @param percentile Percentile between 0 and 100
+   * @return Latency at the given percentile, or zero if no request has completed
+   */
+  public Duration percentile(double percentile) {
+    if (latencies.length == 0) {
+      return Duration.ZERO;
+    }
+    var index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+    return Duration.ofNanos(latencies[Math.clamp(index, 0, latencies.length - 1)]);
+  }
+
+  public String format() {
+    return """
+      requests:   %d in %.1fs
+      throughput: %.1f req/s
+      errors:     %d
+      latency:    p50=%.2fms p99=%.2fms p999=%.2fms max=%.2fms
+      outcomes:   %s""".formatted(requests(), elapsed.toMillis() / 1000.0, throughput(), errors(),
+      millis(percentile(50)), millis(percentile(99)), millis(percentile(99.9)), millis(percentile(100)), outcomes);
+  }
+
+  private static double millis(Duration duration) {
+    return duration.toNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+}
@@ -0,0 +1,142 @@
+package org.folio.mosaic.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
+import org.folio.rest.acq.model.mosaic.MosaicOrderRequest;
+import org.folio.rest.acq.model.mosaic.ReferenceNumberItem;
+import org.springframework.boot.convert.DurationStyle;
+
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Drives <code>POST /mosaic/orders</code> of a locally running module at a target rate, with mod-orders,
+ * mod-organizations and custom fields served by a {@link DownstreamStub} in the same JVM.
+ * <br><br>
+ * Arguments are given as <code>key=value</code>, see {@link #DEFAULTS} for the keys and their defaults.
+ * Durations use the same format as the application properties, e.g. <code>30s</code> or <code>250ms</code>.
+ */
+@Log4j2
+public final class LoadTest {
+
+  private static final String TENANT_HEADER = "x-okapi-tenant";
+  private static final String OKAPI_URL_HEADER = "x-okapi-url";
+
+  static final Map<String, String> DEFAULTS = Map.ofEntries(
+    Map.entry("module-url", "http://localhost:8081"),
+    Map.entry("tenant", "diku"),
+    Map.entry("module-id", "mod-mosaic-1.0.0"),
+    Map.entry("template-id", "2e1bbcf9-dbef-45d6-b496-cff85a0a6d80"),
+    Map.entry("rate", "50"),
+    Map.entry("warmup", "10s"),
+    Map.entry("duration", "60s"),
+    Map.entry("stub-port", "9130"),
+    Map.entry("template-latency", "20ms"),
+    Map.entry("order-latency", "150ms"),
+    Map.entry("jitter", "0.2"),
+    Map.entry("error-rate", "0"),
+    Map.entry("error-status", "500"));
+
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    var options = parse(args);
+    var objectMapper = JsonMapper.builder()
+      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+      .build();
+    var stubSettings = new DownstreamStub.Settings(duration(options.get("template-latency")),
+      duration(options.get("order-latency")), Double.parseDouble(options.get("jitter")),
+      Double.parseDouble(options.get("error-rate")), Integer.parseInt(options.get("error-status")));
+
+    try (var stub = new DownstreamStub(Integer.parseInt(options.get("stub-port")), stubSettings, objectMapper);
+         var executor = Executors.newVirtualThreadPerTaskExecutor();
+         var httpClient = HttpClient.newBuilder().executor(executor).version(HttpClient.Version.HTTP_1_1).build()) {
+      stub.start();
+      var moduleUrl = options.get("module-url");
+      var tenant = options.get("tenant");
+      enableTenant(httpClient, moduleUrl, tenant, stub.getUrl(), options.get("module-id"));
+
+      var templateId = options.get("template-id");
+      var orderNumbers = new AtomicLong();
+      var ordersUri = URI.create(moduleUrl + "/mosaic/orders");
+      var generator = new LoadGenerator(httpClient);
+      var rate = Integer.parseInt(options.get("rate"));
+
+      Supplier<HttpRequest> requests = () -> HttpRequest.newBuilder(ordersUri)
+        .header("Content-Type", "application/json")
+        .header(TENANT_HEADER, tenant)
+        .header(OKAPI_URL_HEADER, stub.getUrl())
+        .timeout(Duration.ofSeconds(30))
+        .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(
+          orderRequest(templateId, orderNumbers.incrementAndGet()))))
+        .build();
+
+      log.info("main:: Warming up for {}", options.get("warmup"));
+      generator.run(rate, duration(options.get("warmup")), requests);
+      log.info("main:: Measuring for {}", options.get("duration"));
+      var report = generator.run(rate, duration(options.get("duration")), requests);
+      log.info("main:: Load test finished:\n{}", report.format());
+    }
+  }
+
+  private static void enableTenant(HttpClient httpClient, String moduleUrl, String tenant, String okapiUrl,
+                                   String moduleId) throws Exception {
+    var request = HttpRequest.newBuilder(URI.create(moduleUrl + "/_/tenant"))
+      .header("Content-Type", "application/json")
+      .header(TENANT_HEADER, tenant)
+      .header(OKAPI_URL_HEADER, okapiUrl)
+      .POST(HttpRequest.BodyPublishers.ofString("{\"module_to\":\"%s\"}".formatted(moduleId)))
+      .build();
+    var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    if (response.statusCode() / 100 != 2) {
+      throw new IllegalStateException("Failed to enable tenant %s, status: %d, body: %s"
+        .formatted(tenant, response.statusCode(), response.body()));
+    }
+    log.info("enableTenant:: Tenant: {} is enabled", tenant);
+  }
+
+  private static MosaicOrderRequest orderRequest(String templateId, long orderNumber) {
+    return new MosaicOrderRequest()
+      .withOrderTemplateId(templateId)
+      .withMosaicOrder(new MosaicOrder()
+        .withId(UUID.randomUUID().toString())
+        .withTitle("Load test title " + orderNumber)
+        .withListUnitPriceElectronic(15.0)
+        .withQuantityElectronic(1)
+        .withReferenceNumbers(List.of(new ReferenceNumberItem()
+          .withRefNumber("load-test-" + orderNumber)
+          .withRefNumberType(ReferenceNumberItem.RefNumberType.VENDOR_CONTINUATION_REFERENCE_NUMBER))));
+  }
+
+  private static Map<String, String> parse(String[] args) {
+    var options = new HashMap<>(DEFAULTS);
+    for (var arg : args) {
+      var separator = arg.indexOf('=');
+      var key = separator > 0 ? arg.substring(0, separator) : arg;
+      if (separator < 0 || !DEFAULTS.containsKey(key)) {
+        throw new IllegalArgumentException("Invalid option: %s, expected key=value with one of the keys: %s"
+          .formatted(arg, DEFAULTS.keySet()));
+      }
+      options.put(key, arg.substring(separator + 1));
+    }
+    return options;
+  }
+
+  private static Duration duration(String value) {
+    return DurationStyle.detectAndParse(value);
+  }
+}
@@ -0,0 +1,82 @@
+package org.folio.mosaic.cache;
+
+import java.util.function.Supplier;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.mosaic.domain.entity.MosaicConfigurationEntity;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Tenant scoped snapshot of the mosaic configuration.
+ * <br><br>
+ * The snapshot is evicted once a local update commits, the TTL bounds how long changes
+ * made through other instances stay unnoticed. A missing configuration is not cached.
+ */
+@Log4j2
+@Component
+public class ConfigurationCache {
+
+  public static final String CACHE_NAME = "mosaic.configuration";
+
+  private final FolioExecutionContext folioExecutionContext;
+  private final CacheProperties.CacheSettings settings;
+  private final Cache<String, MosaicConfigurationEntity> cache;
+
+  public ConfigurationCache(FolioExecutionContext folioExecutionContext, CacheProperties cacheProperties,
+                            MeterRegistry meterRegistry) {
+    this.folioExecutionContext = folioExecutionContext;
+    this.settings = cacheProperties.getConfiguration();
+    Cache<String, MosaicConfigurationEntity> configurations = Caffeine.newBuilder()
+      .maximumSize(settings.getMaxSize())
+      .expireAfterWrite(settings.getTtl())
+      .recordStats()
+      .build();
+    this.cache = CaffeineCacheMetrics.monitor(meterRegistry, configurations, CACHE_NAME);
+  }
+
+  /**
+   * Returns the configuration of the current tenant, loading it with the given loader on a miss.
+   *
+   * @param loader supplier loading the configuration, may return null if it does not exist
+   * @return the configuration or null if the loader could not find it
+   */
+  public MosaicConfigurationEntity get(Supplier<MosaicConfigurationEntity> loader) {
+    if (!settings.isEnabled()) {
+      return loader.get();
+    }
+    return cache.get(folioExecutionContext.getTenantId(), tenantId -> loader.get());
+  }
+
+  /**
+   * Evicts the configuration of the current tenant once the current transaction commits,
+   * or immediately if there is no transaction.
+   */
+  public void invalidateAfterCommit() {
+    var tenantId = folioExecutionContext.getTenantId();
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      invalidate(tenantId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        invalidate(tenantId);
+      }
+    });
+  }
+
+  private void invalidate(String tenantId) {
+    log.debug("invalidate:: Evicting mosaic configuration of tenant: {}", tenantId);
+    cache.invalidate(tenantId);
+  }
+}
@@ -0,0 +1,55 @@
+package org.folio.mosaic.cache;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Tenant scoped cache of the custom field refIds defined for orders and poLines, keyed by entity type.
+ * <br><br>
+ * Definitions are rarely changed, the TTL bounds how long a newly defined custom field is rejected.
+ */
+@Component
+public class CustomFieldDefinitionsCache {
+
+  public static final String CACHE_NAME = "mosaic.custom-fields";
+
+  private final FolioExecutionContext folioExecutionContext;
+  private final CacheProperties.CacheSettings settings;
+  private final Cache<String, Map<String, Set<String>>> cache;
+
+  public CustomFieldDefinitionsCache(FolioExecutionContext folioExecutionContext, CacheProperties cacheProperties,
+                                     MeterRegistry meterRegistry) {
+    this.folioExecutionContext = folioExecutionContext;
+    this.settings = cacheProperties.getCustomFields();
+    Cache<String, Map<String, Set<String>>> definitions = Caffeine.newBuilder()
+      .maximumSize(settings.getMaxSize())
+      .expireAfterWrite(settings.getTtl())
+      .recordStats()
+      .build();
+    this.cache = CaffeineCacheMetrics.monitor(meterRegistry, definitions, CACHE_NAME);
+  }
+
+  /**
+   * Returns the refIds defined for the current tenant, loading them with the given loader on a miss.
+   *
+   * @param loader supplier loading the refIds keyed by entity type
+   * @return the refIds keyed by entity type
+   */
+  public Map<String, Set<String>> get(Supplier<Map<String, Set<String>>> loader) {
+    if (!settings.isEnabled()) {
+      return loader.get();
+    }
+    return cache.get(folioExecutionContext.getTenantId(), tenantId -> loader.get());
+  }
+}
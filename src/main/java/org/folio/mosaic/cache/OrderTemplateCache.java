@@ -0,0 +1,65 @@
+package org.folio.mosaic.cache;
+
+import static org.folio.mosaic.config.AsyncConfiguration.CACHE_REFRESH_EXECUTOR;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.mosaic.service.OrderTemplatePrototype;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tenant scoped cache of order templates fetched from mod-orders.
+ * <br><br>
+ * Templates are kept as compiled immutable prototypes, which are shared by concurrent requests
+ * and cloned into fresh order and poLine instances for every order. Stale templates are revalidated in the
+ * background as described in {@link TenantScopedCache}.
+ * <br><br>
+ * Templates that could not be found are remembered for a short time, so clients retrying with a stale or wrong
+ * template id are answered locally instead of reaching mod-orders on every attempt. Invalidating a template,
+ * e.g. once it is created, also forgets that it was missing.
+ */
+@Component
+public class OrderTemplateCache {
+
+  public static final String CACHE_NAME = "mosaic.order-templates";
+  public static final String MISSING_CACHE_NAME = "mosaic.order-templates.missing";
+
+  private final TenantScopedCache<String, OrderTemplatePrototype> cache;
+
+  @Autowired
+  public OrderTemplateCache(FolioExecutionContext folioExecutionContext, CacheProperties cacheProperties,
+                            MeterRegistry meterRegistry, @Qualifier(CACHE_REFRESH_EXECUTOR) Executor refreshExecutor) {
+    this(folioExecutionContext, cacheProperties, meterRegistry, Ticker.systemTicker(), refreshExecutor);
+  }
+
+  OrderTemplateCache(FolioExecutionContext folioExecutionContext, CacheProperties cacheProperties,
+                     MeterRegistry meterRegistry, Ticker ticker, Executor refreshExecutor) {
+    this.cache = new TenantScopedCache<>(CACHE_NAME, cacheProperties.getTemplates(),
+      cacheProperties.getTemplatesRevalidation(), cacheProperties.getMissingTemplates(), folioExecutionContext,
+      meterRegistry, ticker, refreshExecutor);
+  }
+
+  /**
+   * Returns the cached template of the current tenant, loading it with the given loader on a miss.
+   *
+   * @param templateId id of the order template
+   * @param loader     function loading the template by its id, may return null if it does not exist
+   * @return the template or null if the loader could not find it
+   */
+  public OrderTemplatePrototype get(String templateId, Function<String, OrderTemplatePrototype> loader) {
+    return cache.get(templateId, loader);
+  }
+
+  public void invalidate(String templateId) {
+    cache.invalidate(templateId);
+  }
+}
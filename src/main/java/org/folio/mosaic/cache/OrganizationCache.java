@@ -0,0 +1,65 @@
+package org.folio.mosaic.cache;
+
+import static org.folio.mosaic.config.AsyncConfiguration.CACHE_REFRESH_EXECUTOR;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.rest.acq.model.orgs.Organization;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tenant scoped index of organizations by code, used to resolve vendor codes of orders and the MOSAIC
+ * organization of the default template.
+ * <br><br>
+ * Only the codes looked up are kept, up to the max size across all tenants. The hard expiry of
+ * {@link TenantScopedCache} makes a code renamed or removed while the background refreshes fail stop resolving.
+ * Cached organizations are shared by concurrent requests and must not be modified.
+ * <br><br>
+ * Codes that could not be found are remembered for a short time, so orders with an unknown vendor code are
+ * rejected locally.
+ */
+@Component
+public class OrganizationCache {
+
+  public static final String CACHE_NAME = "mosaic.organizations";
+  public static final String MISSING_CACHE_NAME = "mosaic.organizations.missing";
+
+  private final TenantScopedCache<String, Organization> cache;
+
+  @Autowired
+  public OrganizationCache(FolioExecutionContext folioExecutionContext, CacheProperties cacheProperties,
+                           MeterRegistry meterRegistry, @Qualifier(CACHE_REFRESH_EXECUTOR) Executor refreshExecutor) {
+    this(folioExecutionContext, cacheProperties, meterRegistry, Ticker.systemTicker(), refreshExecutor);
+  }
+
+  OrganizationCache(FolioExecutionContext folioExecutionContext, CacheProperties cacheProperties,
+                    MeterRegistry meterRegistry, Ticker ticker, Executor refreshExecutor) {
+    this.cache = new TenantScopedCache<>(CACHE_NAME, cacheProperties.getOrganizations(),
+      cacheProperties.getOrganizationsRevalidation(), cacheProperties.getMissingOrganizations(), folioExecutionContext,
+      meterRegistry, ticker, refreshExecutor);
+  }
+
+  /**
+   * Returns the cached organization of the current tenant, loading it with the given loader on a miss.
+   *
+   * @param code   code of the organization
+   * @param loader function loading the organization by its code, may return null if it does not exist
+   * @return the organization or null if the loader could not find it
+   */
+  public Organization get(String code, Function<String, Organization> loader) {
+    return cache.get(code, loader);
+  }
+
+  public void invalidate(String code) {
+    cache.invalidate(code);
+  }
+}
@@ -0,0 +1,62 @@
+package org.folio.mosaic.cache;
+
+import static org.folio.mosaic.config.AsyncConfiguration.CACHE_REFRESH_EXECUTOR;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Tenant scoped index of order template ids by templateCode.
+ * <br><br>
+ * The whole index of a tenant is loaded at once and rebuilt in the background once stale, to pick up templates
+ * created or recoded outside of mod-mosaic. Only the first request of a tenant, and the first one after the index
+ * was invalidated or expired, wait for the index to be built.
+ */
+@Component
+public class TemplateCodeIndexCache {
+
+  public static final String CACHE_NAME = "mosaic.template-codes";
+
+  private static final String INDEX_KEY = "index";
+
+  private final TenantScopedCache<String, Map<String, String>> cache;
+
+  @Autowired
+  public TemplateCodeIndexCache(FolioExecutionContext folioExecutionContext, CacheProperties cacheProperties,
+                                MeterRegistry meterRegistry,
+                                @Qualifier(CACHE_REFRESH_EXECUTOR) Executor refreshExecutor) {
+    this(folioExecutionContext, cacheProperties, meterRegistry, Ticker.systemTicker(), refreshExecutor);
+  }
+
+  TemplateCodeIndexCache(FolioExecutionContext folioExecutionContext, CacheProperties cacheProperties,
+                         MeterRegistry meterRegistry, Ticker ticker, Executor refreshExecutor) {
+    this.cache = new TenantScopedCache<>(CACHE_NAME, cacheProperties.getTemplateCodes(),
+      cacheProperties.getTemplateCodesRevalidation(), null, folioExecutionContext, meterRegistry, ticker,
+      refreshExecutor);
+  }
+
+  /**
+   * Returns the index of the current tenant, loading it with the given loader on a miss.
+   *
+   * @param loader supplier loading the template ids keyed by templateCode
+   * @return the template ids keyed by templateCode
+   */
+  public Map<String, String> get(Supplier<Map<String, String>> loader) {
+    return cache.get(INDEX_KEY, key -> loader.get());
+  }
+
+  public void invalidate() {
+    cache.invalidate(INDEX_KEY);
+  }
+}
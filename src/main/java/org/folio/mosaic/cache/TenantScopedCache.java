@@ -0,0 +1,180 @@
+package org.folio.mosaic.cache;
+
+import static org.folio.mosaic.util.FolioContextUtils.snapshot;
+import static org.folio.mosaic.util.FolioContextUtils.withContext;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.spring.FolioExecutionContext;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Tenant scoped cache of values loaded from other modules, backing the caches of order templates, templateCodes
+ * and organizations.
+ * <br><br>
+ * Concurrent misses for the same tenant and key are collapsed into a single load. With stale-while-revalidate
+ * enabled, a value older than its soft expiry is still served while a single task of the shared refresh executor
+ * loads a fresh copy within the tenant context of the request that noticed it, and a failed refresh keeps serving
+ * the stale value. The TTL acts as the hard expiry: past it the value is dropped and the next request loads it inline.
+ * <br><br>
+ * If missing settings are given, keys the loader could not find are remembered for a short time in a separate cache,
+ * named after this one with a <code>.missing</code> suffix. Invalidating a key also forgets that it was missing.
+ *
+ * @param <K> type of the keys within a tenant
+ * @param <V> type of the cached values, which are shared by concurrent requests
+ */
+@Log4j2
+public class TenantScopedCache<K, V> {
+
+  private static final String MISSING_SUFFIX = ".missing";
+
+  private final String name;
+  private final FolioExecutionContext folioExecutionContext;
+  private final CacheProperties.CacheSettings settings;
+  private final CacheProperties.StaleWhileRevalidate revalidation;
+  private final CacheProperties.CacheSettings missingSettings;
+  private final Ticker ticker;
+  private final Executor refreshExecutor;
+  private final Cache<TenantKey<K>, Entry<V>> cache;
+  private final Cache<TenantKey<K>, Boolean> missing;
+
+  /**
+   * @param name            name of the cache in the metrics
+   * @param settings        settings of the cache, its TTL is the hard expiry of the values
+   * @param revalidation    soft expiry of the values
+   * @param missingSettings settings of the cache of missing keys, null to not remember them
+   */
+  public TenantScopedCache(String name, CacheProperties.CacheSettings settings,
+                           CacheProperties.StaleWhileRevalidate revalidation, CacheProperties.CacheSettings missingSettings,
+                           FolioExecutionContext folioExecutionContext, MeterRegistry meterRegistry, Ticker ticker,
+                           Executor refreshExecutor) {
+    this.name = name;
+    this.folioExecutionContext = folioExecutionContext;
+    this.settings = settings;
+    this.revalidation = revalidation;
+    this.missingSettings = missingSettings;
+    this.ticker = ticker;
+    this.refreshExecutor = refreshExecutor;
+    Cache<TenantKey<K>, Entry<V>> values = Caffeine.newBuilder()
+      .maximumSize(settings.getMaxSize())
+      .expireAfterWrite(settings.getTtl())
+      .ticker(ticker)
+      .recordStats()
+      .build();
+    this.cache = CaffeineCacheMetrics.monitor(meterRegistry, values, name);
+    if (missingSettings != null) {
+      Cache<TenantKey<K>, Boolean> missingValues = Caffeine.newBuilder()
+        .maximumSize(missingSettings.getMaxSize())
+        .expireAfterWrite(missingSettings.getTtl())
+        .ticker(ticker)
+        .recordStats()
+        .build();
+      this.missing = CaffeineCacheMetrics.monitor(meterRegistry, missingValues, name + MISSING_SUFFIX);
+    } else {
+      this.missing = null;
+    }
+  }
+
+  /**
+   * Returns the cached value of the current tenant, loading it with the given loader on a miss.
+   *
+   * @param key    key of the value
+   * @param loader function loading the value by its key, may return null if it does not exist
+   * @return the value or null if the loader could not find it
+   */
+  public V get(K key, Function<K, V> loader) {
+    var tenantKey = new TenantKey<>(folioExecutionContext.getTenantId(), key);
+    if (isMissingEnabled() && missing.getIfPresent(tenantKey) != null) {
+      log.debug("get:: Key: {} of cache: {} is known to be missing", key, name);
+      return null;
+    }
+
+    if (!settings.isEnabled()) {
+      return rememberMissing(tenantKey, loader.apply(key));
+    }
+    var entry = cache.get(tenantKey, k -> load(k, loader));
+    if (entry == null) {
+      return rememberMissing(tenantKey, null);
+    }
+    if (isStale(entry) && entry.refreshing.compareAndSet(false, true)) {
+      refreshExecutor.execute(withContext(snapshot(folioExecutionContext), () -> refresh(tenantKey, entry, loader)));
+    }
+    return entry.value;
+  }
+
+  public void invalidate(K key) {
+    log.debug("invalidate:: Evicting key: {} of cache: {}", key, name);
+    var tenantKey = new TenantKey<>(folioExecutionContext.getTenantId(), key);
+    cache.invalidate(tenantKey);
+    if (missing != null) {
+      missing.invalidate(tenantKey);
+    }
+  }
+
+  private Entry<V> load(TenantKey<K> tenantKey, Function<K, V> loader) {
+    var value = loader.apply(tenantKey.key());
+    return value != null ? new Entry<>(value, ticker.read()) : null;
+  }
+
+  private boolean isStale(Entry<V> entry) {
+    return revalidation.isEnabled() && ticker.read() - entry.loadedAt >= revalidation.getStaleAfter().toNanos();
+  }
+
+  private boolean isMissingEnabled() {
+    return missing != null && missingSettings.isEnabled();
+  }
+
+  /**
+   * Replaces the stale entry with a freshly loaded value, unless it was invalidated or replaced meanwhile.
+   * A failed refresh keeps serving the stale value and lets the next request try again.
+   */
+  private void refresh(TenantKey<K> tenantKey, Entry<V> stale, Function<K, V> loader) {
+    log.debug("refresh:: Revalidating stale key: {} of cache: {}", tenantKey.key(), name);
+    try {
+      var fresh = load(tenantKey, loader);
+      if (fresh != null) {
+        cache.asMap().replace(tenantKey, stale, fresh);
+      } else if (cache.asMap().remove(tenantKey, stale)) {
+        rememberMissing(tenantKey, null);
+      }
+    } catch (Exception e) {
+      log.warn("refresh:: Failed to revalidate key: {} of cache: {}, serving the stale copy", tenantKey.key(), name, e);
+      stale.refreshing.set(false);
+    }
+  }
+
+  private V rememberMissing(TenantKey<K> tenantKey, V value) {
+    if (value == null && isMissingEnabled()) {
+      missing.put(tenantKey, Boolean.TRUE);
+    }
+    return value;
+  }
+
+  private record TenantKey<K>(String tenantId, K key) {
+  }
+
+  /**
+   * Compared by identity, so a refresh only replaces the exact entry it was started for.
+   */
+  private static final class Entry<V> {
+
+    private final V value;
+    private final long loadedAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private Entry(V value, long loadedAt) {
+      this.value = value;
+      this.loadedAt = loadedAt;
+    }
+  }
+}
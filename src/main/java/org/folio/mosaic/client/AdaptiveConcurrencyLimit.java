@@ -0,0 +1,77 @@
+package org.folio.mosaic.client;
+
+import org.folio.mosaic.config.ResilienceProperties;
+
+/**
+ * Concurrency limit following the latency gradient of the calls, as in TCP Vegas or Netflix' Gradient2.
+ * <br><br>
+ * A long-term average of the latency is taken as the latency of the downstream without queueing. Every completed
+ * call compares its latency to it: while the latency stays within the tolerance the limit grows by a queue of
+ * about the square root of the limit, once it rises the limit shrinks in proportion. Calls completing while
+ * less than half of the limit is used do not grow it, so an idle period cannot inflate the limit.
+ */
+class AdaptiveConcurrencyLimit {
+
+  private final ResilienceProperties.AdaptiveLimit settings;
+  private double limit;
+  private double longLatency;
+  private int inFlight;
+
+  AdaptiveConcurrencyLimit(ResilienceProperties.AdaptiveLimit settings) {
+    this.settings = settings;
+    this.limit = settings.getInitialLimit();
+  }
+
+  /**
+   * @return true if the call may be sent, it must then be completed with {@link #complete} or {@link #release}
+   */
+  synchronized boolean tryAcquire() {
+    if (inFlight >= (int) limit) {
+      return false;
+    }
+    inFlight++;
+    return true;
+  }
+
+  /**
+   * Completes a sent call and adapts the limit to its latency.
+   */
+  synchronized void complete(long latencyNanos) {
+    var appLimited = inFlight < limit / 2;
+    inFlight--;
+    if (latencyNanos <= 0) {
+      return;
+    }
+    if (longLatency == 0) {
+      longLatency = latencyNanos;
+    }
+    longLatency += (latencyNanos - longLatency) / settings.getLongWindow();
+    // let the baseline recover quickly once a latency spike is over
+    if (longLatency > 2 * latencyNanos) {
+      longLatency *= 0.95;
+    }
+
+    var gradient = Math.clamp(settings.getTolerance() * longLatency / latencyNanos, 0.5, 1.0);
+    if (gradient == 1.0 && appLimited) {
+      return;
+    }
+    var newLimit = limit * gradient + Math.sqrt(limit);
+    var smoothing = settings.getSmoothing();
+    limit = Math.clamp(limit * (1 - smoothing) + newLimit * smoothing, settings.getMinLimit(), settings.getMaxLimit());
+  }
+
+  /**
+   * Releases a call that was not sent, without adapting the limit.
+   */
+  synchronized void release() {
+    inFlight--;
+  }
+
+  synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  synchronized int getInFlight() {
+    return inFlight;
+  }
+}
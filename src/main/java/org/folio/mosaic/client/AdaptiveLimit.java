@@ -0,0 +1,18 @@
+package org.folio.mosaic.client;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an http service client method whose concurrent calls are bounded by a limit adapting to its latency:
+ * the limit widens while the latency stays flat and shrinks when it rises, and calls beyond it are rejected.
+ *
+ * @see AdaptiveConcurrencyLimit
+ * @see ResilientClientFactory
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdaptiveLimit {
+}
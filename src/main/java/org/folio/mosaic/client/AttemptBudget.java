@@ -0,0 +1,44 @@
+package org.folio.mosaic.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting additional attempts, i.e. retries or hedges, to a share of the calls to a downstream module.
+ * <br><br>
+ * Every call deposits a fraction of a token and every additional attempt withdraws a whole one, so beyond
+ * the initial capacity additional attempts cannot exceed the given ratio of calls and do not multiply
+ * the load while the downstream is failing or slow.
+ */
+class AttemptBudget {
+
+  private static final long TOKEN = 1000;
+
+  private final long capacity;
+  private final long deposit;
+  private final AtomicLong balance;
+
+  /**
+   * @param ratio    share of calls that may make an additional attempt, e.g. 0.1 for one per ten calls
+   * @param capacity maximum number of additional attempts that can be saved up, available right away
+   */
+  AttemptBudget(double ratio, int capacity) {
+    this.capacity = capacity * TOKEN;
+    this.deposit = Math.round(ratio * TOKEN);
+    this.balance = new AtomicLong(this.capacity);
+  }
+
+  void deposit() {
+    balance.accumulateAndGet(deposit, (current, amount) -> Math.min(capacity, current + amount));
+  }
+
+  boolean tryWithdraw() {
+    var current = balance.get();
+    while (current >= TOKEN) {
+      if (balance.compareAndSet(current, current - TOKEN)) {
+        return true;
+      }
+      current = balance.get();
+    }
+    return false;
+  }
+}
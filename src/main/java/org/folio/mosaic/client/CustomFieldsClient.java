@@ -0,0 +1,18 @@
+package org.folio.mosaic.client;
+
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+
+import tools.jackson.databind.JsonNode;
+
+@HttpExchange("custom-fields")
+public interface CustomFieldsClient {
+
+  String MODULE_ID_HEADER = "x-okapi-module-id";
+
+  @GetExchange
+  JsonNode getCustomFields(@RequestHeader(MODULE_ID_HEADER) String moduleId, @RequestParam("query") String query,
+                           @RequestParam("offset") int offset, @RequestParam("limit") int limit);
+}
@@ -0,0 +1,18 @@
+package org.folio.mosaic.client;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an idempotent http service client method whose slow calls may be hedged: if the first attempt
+ * has not answered within the configured percentile of recent latencies, a second attempt is sent and
+ * whichever answers first is used.
+ *
+ * @see ResilientClientFactory
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Hedged {
+}
@@ -0,0 +1,41 @@
+package org.folio.mosaic.client;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the most recent successful calls, from which the hedging delay is derived.
+ */
+class LatencyWindow {
+
+  private final long[] samples;
+  private int next;
+  private int size;
+
+  LatencyWindow(int capacity) {
+    this.samples = new long[capacity];
+  }
+
+  synchronized void record(long nanos) {
+    samples[next] = nanos;
+    next = (next + 1) % samples.length;
+    size = Math.min(size + 1, samples.length);
+  }
+
+  /**
+   * @param percentile   percentile of the recorded latencies, between 0 and 100
+   * @param minimumCount minimum number of recorded latencies for the percentile to be meaningful
+   * @return the percentile in nanoseconds, or -1 if fewer latencies are recorded
+   */
+  long percentile(double percentile, int minimumCount) {
+    long[] sorted;
+    synchronized (this) {
+      if (size < minimumCount || size == 0) {
+        return -1;
+      }
+      sorted = Arrays.copyOf(samples, size);
+    }
+    Arrays.sort(sorted);
+    var index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+    return sorted[Math.clamp(index, 0, sorted.length - 1)];
+  }
+}
@@ -7,19 +7,28 @@ import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
 import org.folio.rest.acq.model.orders.OrderTemplate;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 import org.springframework.web.service.annotation.PostExchange;
 
+import tools.jackson.databind.JsonNode;
+
 @HttpExchange("orders")
 public interface OrdersClient {
 
+  @AdaptiveLimit
   @PostExchange(value = "/composite-orders")
-  CompositePurchaseOrder createOrder(@RequestBody CompositePurchaseOrder poLine);
+  InputStream createOrderAsResponse(@RequestBody CompositePurchaseOrder order);
 
+  @Hedged
   @GetExchange(value = "/order-templates/{templateId}")
   Optional<InputStream> getOrderTemplateAsResponse(@PathVariable String templateId);
 
+  @GetExchange(value = "/order-templates")
+  JsonNode getOrderTemplates(@RequestParam("query") String query, @RequestParam("offset") int offset,
+                             @RequestParam("limit") int limit);
+
   @PostExchange("/order-templates")
   void createOrderTemplate(@RequestBody OrderTemplate template);
 }
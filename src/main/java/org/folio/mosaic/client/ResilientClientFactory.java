@@ -0,0 +1,426 @@
+package org.folio.mosaic.client;
+
+import static org.folio.mosaic.util.FolioContextUtils.snapshot;
+import static org.folio.mosaic.util.FolioContextUtils.withContext;
+
+import java.io.InterruptedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.mosaic.config.ResilienceProperties;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.service.annotation.GetExchange;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Decorates the http service clients with a circuit breaker, a bulkhead and a retry policy per downstream module.
+ * <br><br>
+ * The circuit breaker opens on the failure or slow call rate, so calls fail fast while the downstream
+ * is degraded instead of piling up until they time out, and probes it again when half-open. Client
+ * errors are answers of a healthy downstream and are not counted as failures. The bulkhead caps the
+ * concurrent in-flight calls, and rejected calls surface as {@link DownstreamUnavailableException}.
+ * <br><br>
+ * Only idempotent GETs are retried, on 502, 503, 504 and I/O errors, with exponential backoff and full
+ * jitter. Retries are limited by an {@link AttemptBudget} per downstream, so they cannot multiply the load
+ * during an outage, and are never attempted once the circuit breaker rejects calls.
+ * <br><br>
+ * Attempts of {@link Hedged} methods that have not answered within a percentile of their recent latencies
+ * are hedged with a second attempt, also limited by a budget. Whichever answers first is used, the other one
+ * is interrupted, which aborts its request, and a response it already got is closed. Cancelled attempts are not
+ * counted by the circuit breaker.
+ * <br><br>
+ * Concurrent calls of {@link AdaptiveLimit} methods are bounded by an {@link AdaptiveConcurrencyLimit} following
+ * their latency, so an overloaded downstream sheds the excess calls with a clean rejection instead of letting
+ * the latency of every call explode.
+ */
+@Log4j2
+@Component
+public class ResilientClientFactory {
+
+  public static final String BULKHEAD_REJECTIONS_METRIC = "mosaic.downstream.bulkhead.rejected";
+  public static final String ATTEMPTS_METRIC = "mosaic.downstream.attempts";
+  public static final String HEDGES_METRIC = "mosaic.downstream.hedges";
+  public static final String CONCURRENCY_LIMIT_METRIC = "mosaic.downstream.concurrency.limit";
+  public static final String CONCURRENCY_IN_FLIGHT_METRIC = "mosaic.downstream.concurrency.in_flight";
+  public static final String CONCURRENCY_REJECTIONS_METRIC = "mosaic.downstream.concurrency.rejected";
+
+  private static final Set<HttpStatus> RETRYABLE_STATUSES =
+    Set.of(HttpStatus.BAD_GATEWAY, HttpStatus.SERVICE_UNAVAILABLE, HttpStatus.GATEWAY_TIMEOUT);
+
+  private final ResilienceProperties properties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final BulkheadRegistry bulkheadRegistry;
+
+  public ResilientClientFactory(ResilienceProperties properties, FolioExecutionContext folioExecutionContext,
+                                MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.folioExecutionContext = folioExecutionContext;
+    this.meterRegistry = meterRegistry;
+    this.circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig(properties.getCircuitBreaker()));
+    this.bulkheadRegistry = BulkheadRegistry.of(bulkheadConfig(properties.getBulkhead()));
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+  }
+
+  /**
+   * @param clientType interface of the http service client
+   * @param client     the http service client
+   * @param downstream name of the downstream module, circuit breaker and bulkhead are shared by its clients
+   * @return the client decorated with the circuit breaker, the bulkhead and the retry policy of the downstream
+   */
+  public <T> T decorate(Class<T> clientType, T client, String downstream) {
+    if (!properties.isEnabled()) {
+      return client;
+    }
+    var handler = new ResilientInvocationHandler(client, downstream);
+    return clientType.cast(Proxy.newProxyInstance(clientType.getClassLoader(), new Class<?>[]{clientType}, handler));
+  }
+
+  private final class ResilientInvocationHandler implements InvocationHandler {
+
+    private final Object client;
+    private final String downstream;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final AttemptBudget retryBudget;
+    private final AttemptBudget hedgeBudget;
+    private final Map<Method, LatencyWindow> latencies = new ConcurrentHashMap<>();
+    private final Map<Method, AdaptiveConcurrencyLimit> limits = new ConcurrentHashMap<>();
+
+    private ResilientInvocationHandler(Object client, String downstream) {
+      this.client = client;
+      this.downstream = downstream;
+      this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(downstream);
+      this.bulkhead = bulkheadRegistry.bulkhead(downstream);
+      var retry = properties.getRetry();
+      this.retryBudget = new AttemptBudget(retry.getBudgetRatio(), retry.getBudgetCapacity());
+      var hedging = properties.getHedging();
+      this.hedgeBudget = new AttemptBudget(hedging.getBudgetRatio(), hedging.getBudgetCapacity());
+
+      circuitBreaker.getEventPublisher().onStateTransition(event -> log.warn(
+        "ResilientInvocationHandler:: Circuit breaker of downstream: {} transitioned: {}", downstream,
+        event.getStateTransition()));
+      var rejections = Counter.builder(BULKHEAD_REJECTIONS_METRIC)
+        .description("Calls rejected because the concurrent calls to the downstream are exhausted")
+        .tag("name", downstream)
+        .register(meterRegistry);
+      bulkhead.getEventPublisher().onCallRejected(event -> rejections.increment());
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass() == Object.class) {
+        return method.invoke(client, args);
+      }
+      if (!method.isAnnotationPresent(GetExchange.class)) {
+        return isAdaptivelyLimited(method) ? invokeLimited(method, args) : invokeOnce(method, args);
+      }
+
+      var retry = properties.getRetry();
+      retryBudget.deposit();
+      for (int attempt = 1; ; attempt++) {
+        try {
+          var result = isHedged(method) ? invokeHedged(method, args) : invokeOnce(method, args);
+          recordAttempt(method, "success");
+          return result;
+        } catch (Throwable e) {
+          if (!isRetryable(e) || attempt >= retry.getMaxAttempts()) {
+            recordAttempt(method, "failure");
+            throw e;
+          }
+          if (!retryBudget.tryWithdraw()) {
+            recordAttempt(method, "budget_exhausted");
+            throw e;
+          }
+          recordAttempt(method, "retry");
+          log.debug("invoke:: Retrying {} of downstream: {} after attempt: {} failed with: {}", method.getName(),
+            downstream, attempt, e.getMessage());
+          Thread.sleep(backoffMillis(attempt));
+        }
+      }
+    }
+
+    private Object invokeOnce(Method method, Object[] args) throws Throwable {
+      try {
+        circuitBreaker.acquirePermission();
+      } catch (CallNotPermittedException e) {
+        throw new DownstreamUnavailableException(downstream, e);
+      }
+      try {
+        bulkhead.acquirePermission();
+      } catch (BulkheadFullException e) {
+        circuitBreaker.releasePermission();
+        throw new DownstreamUnavailableException(downstream, e);
+      }
+
+      var start = System.nanoTime();
+      try {
+        var result = method.invoke(client, args);
+        circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return result;
+      } catch (InvocationTargetException e) {
+        if (isCancelled(e.getCause())) {
+          // a cancelled attempt says nothing about the health of the downstream
+          circuitBreaker.releasePermission();
+        } else {
+          circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e.getCause());
+        }
+        throw e.getCause();
+      } finally {
+        bulkhead.onComplete();
+      }
+    }
+
+    private boolean isAdaptivelyLimited(Method method) {
+      return properties.getAdaptiveLimit().isEnabled() && method.isAnnotationPresent(AdaptiveLimit.class);
+    }
+
+    private Object invokeLimited(Method method, Object[] args) throws Throwable {
+      var limit = limits.computeIfAbsent(method, this::newLimit);
+      if (!limit.tryAcquire()) {
+        meterRegistry.counter(CONCURRENCY_REJECTIONS_METRIC, "name", downstream, "method", method.getName()).increment();
+        throw new DownstreamUnavailableException(downstream,
+          "concurrency limit of %d calls is reached".formatted(limit.getLimit()));
+      }
+
+      var start = System.nanoTime();
+      try {
+        var result = invokeOnce(method, args);
+        limit.complete(System.nanoTime() - start);
+        return result;
+      } catch (DownstreamUnavailableException e) {
+        limit.release();
+        throw e;
+      } catch (Throwable e) {
+        limit.complete(System.nanoTime() - start);
+        throw e;
+      }
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(Method method) {
+      var limit = new AdaptiveConcurrencyLimit(properties.getAdaptiveLimit());
+      Gauge.builder(CONCURRENCY_LIMIT_METRIC, limit, AdaptiveConcurrencyLimit::getLimit)
+        .description("Adaptive concurrency limit of the calls to the downstream")
+        .tags("name", downstream, "method", method.getName())
+        .strongReference(true)
+        .register(meterRegistry);
+      Gauge.builder(CONCURRENCY_IN_FLIGHT_METRIC, limit, AdaptiveConcurrencyLimit::getInFlight)
+        .description("In-flight calls to the downstream bounded by the adaptive concurrency limit")
+        .tags("name", downstream, "method", method.getName())
+        .strongReference(true)
+        .register(meterRegistry);
+      return limit;
+    }
+
+    private boolean isHedged(Method method) {
+      return properties.getHedging().isEnabled() && method.isAnnotationPresent(Hedged.class);
+    }
+
+    private Object invokeHedged(Method method, Object[] args) throws Throwable {
+      var hedging = properties.getHedging();
+      var latencyWindow = latencies.computeIfAbsent(method, m -> new LatencyWindow(hedging.getWindowSize()));
+      hedgeBudget.deposit();
+      var percentile = latencyWindow.percentile(hedging.getPercentile(), hedging.getMinimumNumberOfCalls());
+      if (percentile < 0) {
+        return invokeTimed(method, args, latencyWindow);
+      }
+
+      var delay = Math.max(percentile, hedging.getMinDelay().toNanos());
+      var context = snapshot(folioExecutionContext);
+      var primary = submitAttempt(context, method, args, latencyWindow);
+      try {
+        return primary.result().get(delay, TimeUnit.NANOSECONDS);
+      } catch (ExecutionException e) {
+        throw e.getCause();
+      } catch (TimeoutException e) {
+        if (!hedgeBudget.tryWithdraw()) {
+          recordHedge(method, "budget_exhausted");
+          return await(primary.result());
+        }
+      }
+
+      log.debug("invokeHedged:: Hedging {} of downstream: {} after: {} ms", method.getName(), downstream,
+        TimeUnit.NANOSECONDS.toMillis(delay));
+      var hedge = submitAttempt(context, method, args, latencyWindow);
+      var winner = new CompletableFuture<HedgeAnswer>();
+      var failures = new AtomicInteger();
+      primary.result().whenComplete((result, error) -> completeFirst(winner, failures, result, error, false));
+      hedge.result().whenComplete((result, error) -> completeFirst(winner, failures, result, error, true));
+      HedgeAnswer answer = null;
+      try {
+        answer = await(winner);
+        recordHedge(method, answer.hedge() ? "hedge_won" : "primary_won");
+        return answer.result();
+      } finally {
+        // interrupting the virtual thread of the losing attempt closes its socket, so it gives back its bulkhead
+        // permission and pooled connection right away instead of holding them until the downstream answers
+        if (answer == null || answer.hedge()) {
+          primary.task().cancel(true);
+        }
+        if (answer == null || !answer.hedge()) {
+          hedge.task().cancel(true);
+        }
+      }
+    }
+
+    private HedgeAttempt submitAttempt(FolioExecutionContext context, Method method, Object[] args,
+                                       LatencyWindow latencyWindow) {
+      var result = new CompletableFuture<>();
+      var task = hedgeExecutor.submit(withContext(context, () -> {
+        try {
+          result.complete(invokeTimed(method, args, latencyWindow));
+        } catch (Throwable e) {
+          result.completeExceptionally(e);
+        }
+      }));
+      return new HedgeAttempt(result, task);
+    }
+
+    private Object invokeTimed(Method method, Object[] args, LatencyWindow latencyWindow) throws Throwable {
+      var start = System.nanoTime();
+      var result = invokeOnce(method, args);
+      latencyWindow.record(System.nanoTime() - start);
+      return result;
+    }
+
+    private void recordHedge(Method method, String outcome) {
+      meterRegistry.counter(HEDGES_METRIC, "name", downstream, "method", method.getName(), "outcome", outcome)
+        .increment();
+    }
+
+    private void recordAttempt(Method method, String outcome) {
+      meterRegistry.counter(ATTEMPTS_METRIC, "name", downstream, "method", method.getName(), "outcome", outcome)
+        .increment();
+    }
+  }
+
+  private record HedgeAttempt(CompletableFuture<Object> result, Future<?> task) {
+  }
+
+  private record HedgeAnswer(Object result, boolean hedge) {
+  }
+
+  /**
+   * Completes the winner with the first successful result, or with the error once both attempts failed.
+   */
+  private static void completeFirst(CompletableFuture<HedgeAnswer> winner, AtomicInteger failures, Object result,
+                                    Throwable error, boolean hedge) {
+    if (error != null) {
+      if (failures.incrementAndGet() == 2) {
+        winner.completeExceptionally(error);
+      }
+    } else if (!winner.complete(new HedgeAnswer(result, hedge))) {
+      closeQuietly(result);
+    }
+  }
+
+  private static <T> T await(CompletableFuture<T> future) throws Throwable {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+
+  /**
+   * Closes the response of a losing attempt, which is either a stream or an optional stream.
+   */
+  private static void closeQuietly(Object result) {
+    var response = result instanceof Optional<?> optional ? optional.orElse(null) : result;
+    if (response instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (Exception e) {
+        log.debug("closeQuietly:: Failed to close response of losing attempt: {}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Interrupts the hedged attempts still in flight and waits for them to end, their permissions are released
+   * without counting them as failures.
+   */
+  @PreDestroy
+  public void shutdown() {
+    hedgeExecutor.shutdownNow();
+    hedgeExecutor.close();
+  }
+
+  private static boolean isCancelled(Throwable e) {
+    return Thread.currentThread().isInterrupted() || e instanceof InterruptedException
+      || e instanceof InterruptedIOException || e.getCause() instanceof InterruptedIOException;
+  }
+
+  private long backoffMillis(int attempt) {
+    var retry = properties.getRetry();
+    var ceiling = Math.min(retry.getMaxBackoff().toMillis(), retry.getInitialBackoff().toMillis() << (attempt - 1));
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private static boolean isRetryable(Throwable e) {
+    return e instanceof ResourceAccessException
+      || e instanceof HttpServerErrorException serverError
+        && RETRYABLE_STATUSES.contains(HttpStatus.resolve(serverError.getStatusCode().value()));
+  }
+
+  private static CircuitBreakerConfig circuitBreakerConfig(ResilienceProperties.CircuitBreaker settings) {
+    return CircuitBreakerConfig.custom()
+      .failureRateThreshold(settings.getFailureRateThreshold())
+      .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+      .slowCallDurationThreshold(settings.getSlowCallDuration())
+      .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+      .slidingWindowSize(settings.getSlidingWindowSize())
+      .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+      .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+      .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+      .automaticTransitionFromOpenToHalfOpenEnabled(true)
+      .ignoreExceptions(HttpClientErrorException.class)
+      .build();
+  }
+
+  private static BulkheadConfig bulkheadConfig(ResilienceProperties.Bulkhead settings) {
+    return BulkheadConfig.custom()
+      .maxConcurrentCalls(settings.getMaxConcurrentCalls())
+      .maxWaitDuration(settings.getMaxWaitDuration())
+      .build();
+  }
+}
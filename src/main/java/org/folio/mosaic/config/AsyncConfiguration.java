@@ -0,0 +1,38 @@
+package org.folio.mosaic.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableScheduling
+public class AsyncConfiguration {
+
+  public static final String ORDER_JOB_EXECUTOR = "orderJobExecutor";
+  public static final String CACHE_REFRESH_EXECUTOR = "cacheRefreshExecutor";
+
+  @Bean(ORDER_JOB_EXECUTOR)
+  public ThreadPoolTaskExecutor orderJobExecutor(OrdersProperties ordersProperties) {
+    var jobs = ordersProperties.getJobs();
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(jobs.getWorkers());
+    executor.setMaxPoolSize(jobs.getWorkers());
+    executor.setQueueCapacity(jobs.getQueueCapacity());
+    executor.setThreadNamePrefix("mosaic-order-job-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    return executor;
+  }
+
+  /**
+   * Runs the background refreshes of the stale-while-revalidate caches, interrupting the pending ones on shutdown.
+   */
+  @Bean(name = CACHE_REFRESH_EXECUTOR, destroyMethod = "shutdownNow")
+  public ExecutorService cacheRefreshExecutor() {
+    return Executors.newVirtualThreadPerTaskExecutor();
+  }
+
+}
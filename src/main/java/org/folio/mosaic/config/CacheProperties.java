@@ -0,0 +1,50 @@
+package org.folio.mosaic.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.mosaic.cache")
+public class CacheProperties {
+
+  private CacheSettings templates = new CacheSettings(true, Duration.ofMinutes(10), 1000);
+  private StaleWhileRevalidate templatesRevalidation = new StaleWhileRevalidate(true, Duration.ofMinutes(5));
+  private CacheSettings templateCodes = new CacheSettings(true, Duration.ofMinutes(30), 1000);
+  private StaleWhileRevalidate templateCodesRevalidation = new StaleWhileRevalidate(true, Duration.ofMinutes(5));
+  private CacheSettings missingTemplates = new CacheSettings(true, Duration.ofSeconds(30), 10000);
+  private CacheSettings configuration = new CacheSettings(true, Duration.ofMinutes(5), 1000);
+  private CacheSettings customFields = new CacheSettings(true, Duration.ofMinutes(10), 1000);
+  private CacheSettings organizations = new CacheSettings(true, Duration.ofMinutes(10), 10000);
+  private StaleWhileRevalidate organizationsRevalidation = new StaleWhileRevalidate(true, Duration.ofMinutes(5));
+  private CacheSettings missingOrganizations = new CacheSettings(true, Duration.ofSeconds(30), 10000);
+
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class CacheSettings {
+
+    private boolean enabled = true;
+    private Duration ttl;
+    private long maxSize;
+  }
+
+  /**
+   * Serves cached entries older than <code>staleAfter</code> while they are refreshed in the background,
+   * the TTL of the cache remains the hard limit on how old a served entry can get.
+   */
+  @Data
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class StaleWhileRevalidate {
+
+    private boolean enabled = true;
+    private Duration staleAfter;
+  }
+}
@@ -1,24 +1,87 @@
 package org.folio.mosaic.config;
 
 import lombok.extern.log4j.Log4j2;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.folio.mosaic.client.CustomFieldsClient;
 import org.folio.mosaic.client.OrdersClient;
 import org.folio.mosaic.client.OrganizationsClient;
+import org.folio.mosaic.client.ResilientClientFactory;
+import org.springframework.boot.restclient.RestClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
 @Log4j2
 public class HttpClientConfiguration {
 
+  public static final String CONNECTION_POOL_NAME = "mosaic.downstream";
+  public static final String ORDERS_DOWNSTREAM = "mod-orders";
+  public static final String ORGANIZATIONS_DOWNSTREAM = "mod-organizations";
+  public static final String CUSTOM_FIELDS_DOWNSTREAM = "custom-fields";
+
+  @Bean
+  public OrdersClient ordersClient(HttpServiceProxyFactory factory, ResilientClientFactory resilientClientFactory) {
+    return resilientClientFactory.decorate(OrdersClient.class, factory.createClient(OrdersClient.class),
+      ORDERS_DOWNSTREAM);
+  }
+
   @Bean
-  public OrdersClient ordersClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(OrdersClient.class);
+  public OrganizationsClient organizationsClient(HttpServiceProxyFactory factory,
+                                                 ResilientClientFactory resilientClientFactory) {
+    return resilientClientFactory.decorate(OrganizationsClient.class, factory.createClient(OrganizationsClient.class),
+      ORGANIZATIONS_DOWNSTREAM);
   }
 
   @Bean
-  public OrganizationsClient organizationsClient(HttpServiceProxyFactory factory) {
-    return factory.createClient(OrganizationsClient.class);
+  public CustomFieldsClient customFieldsClient(HttpServiceProxyFactory factory,
+                                               ResilientClientFactory resilientClientFactory) {
+    return resilientClientFactory.decorate(CustomFieldsClient.class, factory.createClient(CustomFieldsClient.class),
+      CUSTOM_FIELDS_DOWNSTREAM);
   }
 
+  /**
+   * Request factory of the RestClient behind the http service clients. Connections to the sidecar are
+   * pooled and kept alive across bursts of orders instead of being opened for every request.
+   * <br><br>
+   * Only HTTP/1.1 is used: on plain connections the JDK client does not speak HTTP/2 with prior knowledge but
+   * attempts an h2c upgrade, and it publishes no pool metrics.
+   */
+  @Bean
+  public ClientHttpRequestFactory downstreamRequestFactory(HttpClientProperties properties, MeterRegistry meterRegistry) {
+    log.info("downstreamRequestFactory:: Using pooled client with max connections: {}, per route: {}",
+      properties.getMaxConnections(), properties.getMaxConnectionsPerRoute());
+    var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+      .setMaxConnTotal(properties.getMaxConnections())
+      .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+      .setDefaultConnectionConfig(ConnectionConfig.custom()
+        .setConnectTimeout(Timeout.of(properties.getConnectTimeout()))
+        .build())
+      .build();
+    new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CONNECTION_POOL_NAME).bindTo(meterRegistry);
+    var httpClient = HttpClients.custom()
+      .setConnectionManager(connectionManager)
+      .setDefaultRequestConfig(RequestConfig.custom()
+        .setResponseTimeout(Timeout.of(properties.getReadTimeout()))
+        .build())
+      .evictExpiredConnections()
+      .evictIdleConnections(TimeValue.of(properties.getIdleTimeout()))
+      .build();
+    return new HttpComponentsClientHttpRequestFactory(httpClient);
+  }
+
+  @Bean
+  public RestClientCustomizer downstreamRequestFactoryCustomizer(ClientHttpRequestFactory downstreamRequestFactory) {
+    return builder -> builder.requestFactory(downstreamRequestFactory);
+  }
 }
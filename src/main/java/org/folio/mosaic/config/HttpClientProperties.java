@@ -0,0 +1,39 @@
+package org.folio.mosaic.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.mosaic.http-client")
+public class HttpClientProperties {
+
+  /**
+   * Maximum number of pooled connections to downstream modules.
+   */
+  private int maxConnections = 200;
+
+  /**
+   * Maximum number of pooled connections per downstream host, i.e. to the sidecar.
+   */
+  private int maxConnectionsPerRoute = 100;
+
+  /**
+   * Time after which idle pooled connections are closed.
+   */
+  private Duration idleTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Maximum time to establish a connection.
+   */
+  private Duration connectTimeout = Duration.ofSeconds(5);
+
+  /**
+   * Maximum time to wait for a response once the request has been sent.
+   */
+  private Duration readTimeout = Duration.ofSeconds(60);
+}
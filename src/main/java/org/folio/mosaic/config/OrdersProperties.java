@@ -0,0 +1,135 @@
+package org.folio.mosaic.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.mosaic.orders")
+public class OrdersProperties {
+
+  private Batch batch = new Batch();
+  private Jobs jobs = new Jobs();
+  private Idempotency idempotency = new Idempotency();
+  private Retention retention = new Retention();
+  private CustomFields customFields = new CustomFields();
+  private RateLimit rateLimit = new RateLimit();
+
+  @Data
+  public static class Batch {
+
+    /**
+     * Maximum number of orders accepted in a single batch request.
+     */
+    private int maxSize = 100;
+
+    /**
+     * Maximum number of orders of a batch submitted to mod-orders concurrently.
+     */
+    private int parallelism = 8;
+  }
+
+  @Data
+  public static class Jobs {
+
+    /**
+     * Number of workers creating the orders of asynchronous jobs in mod-orders.
+     */
+    private int workers = 4;
+
+    /**
+     * Number of dispatched jobs waiting for a free worker. Jobs dispatched beyond it stay pending
+     * and are picked up by the next worker draining the tenant's queue.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Interval at which every instance resumes the pending jobs of all enabled tenants, e.g. after a restart,
+     * and reclaims the abandoned ones.
+     */
+    private Duration drainInterval = Duration.ofMinutes(1);
+
+    /**
+     * Time after which a job still in progress is considered abandoned, e.g. its instance crashed,
+     * and is processed again.
+     */
+    private Duration staleAfter = Duration.ofMinutes(10);
+  }
+
+  @Data
+  public static class Idempotency {
+
+    /**
+     * Time after which an order creation attempt that has not completed is considered abandoned,
+     * so that a retry with the same key may take it over.
+     */
+    private Duration lockTimeout = Duration.ofMinutes(5);
+
+    /**
+     * Maximum time a duplicate request waits for the attempt of another instance to complete.
+     */
+    private Duration waitTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Interval at which a duplicate request checks whether the attempt of another instance completed.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+  }
+
+  @Data
+  public static class Retention {
+
+    /**
+     * Interval at which every instance deletes the expired idempotency keys and order jobs of all enabled tenants.
+     */
+    private Duration cleanupInterval = Duration.ofHours(1);
+
+    /**
+     * Time after which the outcome of an order creation attempt is forgotten, a retry with the same key arriving
+     * later creates a new order. Must exceed the lock timeout and the time clients keep retrying.
+     */
+    private Duration idempotencyKeys = Duration.ofDays(7);
+
+    /**
+     * Time after which a completed or failed order job is deleted.
+     */
+    private Duration jobs = Duration.ofDays(7);
+  }
+
+  @Data
+  public static class CustomFields {
+
+    /**
+     * Rejects orders with custom field refIds that are not defined for the tenant, instead of leaving it to mod-orders.
+     */
+    private boolean validationEnabled = true;
+
+    /**
+     * Id of the module providing the custom field definitions of orders and poLines.
+     */
+    private String moduleId = "mod-orders-storage";
+  }
+
+  @Data
+  public static class RateLimit {
+
+    /**
+     * Rejects the order requests of a tenant exceeding its rate with 429 Too Many Requests.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of orders per second a tenant may create, batches count every order, also beyond the burst.
+     */
+    private double rate = 10;
+
+    /**
+     * Number of orders a tenant may create at once after being idle.
+     */
+    private int burst = 50;
+  }
+}
@@ -0,0 +1,181 @@
+package org.folio.mosaic.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.mosaic.resilience")
+public class ResilienceProperties {
+
+  private boolean enabled = true;
+  private CircuitBreaker circuitBreaker = new CircuitBreaker();
+  private Bulkhead bulkhead = new Bulkhead();
+  private Retry retry = new Retry();
+  private Hedging hedging = new Hedging();
+  private AdaptiveLimit adaptiveLimit = new AdaptiveLimit();
+
+  @Data
+  public static class CircuitBreaker {
+
+    /**
+     * Percentage of failed calls in the sliding window above which the circuit breaker opens.
+     */
+    private float failureRateThreshold = 50;
+
+    /**
+     * Percentage of slow calls in the sliding window above which the circuit breaker opens.
+     */
+    private float slowCallRateThreshold = 80;
+
+    /**
+     * Duration above which a call is considered slow.
+     */
+    private Duration slowCallDuration = Duration.ofSeconds(10);
+
+    /**
+     * Number of most recent calls the failure and slow call rates are calculated from.
+     */
+    private int slidingWindowSize = 50;
+
+    /**
+     * Minimum number of calls in the sliding window before the rates are evaluated.
+     */
+    private int minimumNumberOfCalls = 20;
+
+    /**
+     * Time the circuit breaker stays open before probing the downstream again.
+     */
+    private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+
+    /**
+     * Number of probe calls permitted while the circuit breaker is half-open.
+     */
+    private int permittedCallsInHalfOpenState = 5;
+  }
+
+  @Data
+  public static class Bulkhead {
+
+    /**
+     * Maximum number of concurrent in-flight calls per downstream.
+     */
+    private int maxConcurrentCalls = 64;
+
+    /**
+     * Maximum time a call waits for a free slot before it is rejected.
+     */
+    private Duration maxWaitDuration = Duration.ZERO;
+  }
+
+  @Data
+  public static class Retry {
+
+    /**
+     * Maximum number of attempts of an idempotent GET, including the first one.
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * Upper bound of the backoff before the first retry, doubled for every further retry.
+     */
+    private Duration initialBackoff = Duration.ofMillis(100);
+
+    /**
+     * Upper bound of the backoff before any retry.
+     */
+    private Duration maxBackoff = Duration.ofSeconds(2);
+
+    /**
+     * Share of the calls to a downstream that may be retried once the saved up retries are used.
+     */
+    private double budgetRatio = 0.1;
+
+    /**
+     * Number of retries per downstream that can be saved up for bursts of transient failures.
+     */
+    private int budgetCapacity = 10;
+  }
+
+  @Data
+  public static class Hedging {
+
+    /**
+     * Sends a second attempt of slow calls to methods marked as hedged.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Percentile of the recent latencies after which a second attempt is sent.
+     */
+    private double percentile = 95;
+
+    /**
+     * Minimum delay before a second attempt is sent.
+     */
+    private Duration minDelay = Duration.ofMillis(50);
+
+    /**
+     * Number of most recent latencies the percentile is calculated from.
+     */
+    private int windowSize = 200;
+
+    /**
+     * Minimum number of recorded latencies before calls are hedged.
+     */
+    private int minimumNumberOfCalls = 20;
+
+    /**
+     * Share of the calls to a downstream that may send a second attempt once the saved up hedges are used.
+     */
+    private double budgetRatio = 0.05;
+
+    /**
+     * Number of hedges per downstream that can be saved up.
+     */
+    private int budgetCapacity = 5;
+  }
+
+  @Data
+  public static class AdaptiveLimit {
+
+    /**
+     * Bounds the concurrent calls to methods marked as adaptively limited by a limit following their latency.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Concurrency limit before any latency has been measured.
+     */
+    private int initialLimit = 20;
+
+    /**
+     * Lower bound of the concurrency limit.
+     */
+    private int minLimit = 4;
+
+    /**
+     * Upper bound of the concurrency limit, the bulkhead of the downstream still applies on top of it.
+     */
+    private int maxLimit = 200;
+
+    /**
+     * Factor by which the latency may exceed its long-term average before the limit shrinks.
+     */
+    private double tolerance = 1.5;
+
+    /**
+     * Weight of every adjustment of the limit, between 0 and 1.
+     */
+    private double smoothing = 0.2;
+
+    /**
+     * Number of calls over which the long-term average latency is calculated.
+     */
+    private int longWindow = 600;
+  }
+}
@@ -0,0 +1,34 @@
+package org.folio.mosaic.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.mosaic.template-mirror")
+public class TemplateMirrorProperties {
+
+  /**
+   * Keeps a copy of the tenant's order templates in sync, which resolves them while mod-orders cannot be reached.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Delay between two syncs, each fetching only the templates updated in mod-orders since the previous one.
+   */
+  private Duration syncInterval = Duration.ofMinutes(5);
+
+  /**
+   * Interval of the full syncs, which also drop the templates deleted in mod-orders.
+   */
+  private Duration fullSyncInterval = Duration.ofHours(1);
+
+  /**
+   * Number of templates fetched from mod-orders per request during a sync.
+   */
+  private int pageSize = 100;
+}
@@ -0,0 +1,28 @@
+package org.folio.mosaic.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "folio.mosaic.warm-up")
+public class WarmUpProperties {
+
+  /**
+   * Warms up the configuration and the default order template of a tenant when it is enabled.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Warms up every enabled tenant on startup, before the module reports being ready.
+   */
+  private boolean onStartup = true;
+
+  /**
+   * Number of sample orders converted from the default template, so the conversion is compiled
+   * before the first real orders arrive.
+   */
+  private int conversions = 200;
+}
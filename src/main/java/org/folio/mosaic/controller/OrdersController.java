@@ -2,7 +2,13 @@ package org.folio.mosaic.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.folio.mosaic.domain.dto.MosaicOrderBatchRequest;
+import org.folio.mosaic.domain.dto.MosaicOrderBatchResponse;
+import org.folio.mosaic.domain.dto.MosaicOrderJob;
 import org.folio.mosaic.rest.resource.OrdersApi;
+import org.folio.mosaic.service.BatchOrdersService;
+import org.folio.mosaic.service.OrderJobService;
+import org.folio.mosaic.service.OrderRateLimiter;
 import org.folio.mosaic.service.OrdersService;
 import org.folio.rest.acq.model.mosaic.MosaicOrderRequest;
 import org.springframework.http.HttpStatus;
@@ -10,6 +16,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 @Log4j2
 @RestController
 @RequestMapping("/mosaic")
@@ -17,10 +25,33 @@ import org.springframework.web.bind.annotation.RestController;
 public class OrdersController implements OrdersApi {
 
   private final OrdersService ordersService;
+  private final BatchOrdersService batchOrdersService;
+  private final OrderJobService orderJobService;
+  private final OrderRateLimiter orderRateLimiter;
 
   @Override
-  public ResponseEntity<String> createMosaicOrder(MosaicOrderRequest mosaicOrderRequest) {
+  public ResponseEntity<String> createMosaicOrder(MosaicOrderRequest mosaicOrderRequest, String idempotencyKey) {
+    orderRateLimiter.acquire(1);
     return ResponseEntity.status(HttpStatus.CREATED)
-      .body(ordersService.createOrder(mosaicOrderRequest));
+      .body(ordersService.createOrder(mosaicOrderRequest, idempotencyKey));
+  }
+
+  @Override
+  public ResponseEntity<MosaicOrderBatchResponse> createMosaicOrders(MosaicOrderBatchRequest mosaicOrderBatchRequest) {
+    var orders = mosaicOrderBatchRequest.getOrders();
+    batchOrdersService.validateBatchSize(orders.size());
+    orderRateLimiter.acquire(orders.size());
+    return ResponseEntity.ok(batchOrdersService.createOrders(orders));
+  }
+
+  @Override
+  public ResponseEntity<MosaicOrderJob> createMosaicOrderJob(MosaicOrderRequest mosaicOrderRequest) {
+    orderRateLimiter.acquire(1);
+    return ResponseEntity.accepted().body(orderJobService.submitJob(mosaicOrderRequest));
+  }
+
+  @Override
+  public ResponseEntity<MosaicOrderJob> getMosaicOrderJob(UUID jobId) {
+    return ResponseEntity.ok(orderJobService.getJob(jobId));
   }
 }
@@ -1,11 +1,16 @@
 package org.folio.mosaic.controller.exception;
 
 import org.folio.mosaic.domain.dto.Errors;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
+import org.folio.mosaic.exception.InvalidRequestException;
 import org.folio.mosaic.exception.ResourceAlreadyExistException;
 import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.exception.TooManyRequestsException;
 import org.folio.mosaic.util.error.ErrorUtils;
 import org.folio.mosaic.util.error.ErrorCode;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -61,6 +66,28 @@ public class ControllerExceptionHandler {
     return ErrorUtils.getErrors(e.getMessage(), ErrorCode.ALREADY_EXISTS_ERROR);
   }
 
+  @ResponseStatus(HttpStatus.BAD_REQUEST)
+  @ExceptionHandler(InvalidRequestException.class)
+  public Errors handleInvalidRequestException(InvalidRequestException e) {
+    logExceptionMessage(e);
+    return ErrorUtils.getErrors(e.getMessage(), ErrorCode.BAD_REQUEST_ERROR);
+  }
+
+  @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+  @ExceptionHandler(DownstreamUnavailableException.class)
+  public Errors handleDownstreamUnavailableException(DownstreamUnavailableException e) {
+    logExceptionMessage(e);
+    return ErrorUtils.getErrors(e.getMessage(), ErrorCode.SERVICE_UNAVAILABLE_ERROR);
+  }
+
+  @ExceptionHandler(TooManyRequestsException.class)
+  public ResponseEntity<Errors> handleTooManyRequestsException(TooManyRequestsException e) {
+    log.warn("Request rejected: {}", e.getMessage());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+      .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter().toSeconds()))
+      .body(ErrorUtils.getErrors(e.getMessage(), ErrorCode.TOO_MANY_REQUESTS_ERROR));
+  }
+
   @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
   @ExceptionHandler(Exception.class)
   public Errors handleGenericException(Exception e) {
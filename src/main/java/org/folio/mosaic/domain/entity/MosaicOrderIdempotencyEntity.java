@@ -0,0 +1,40 @@
+package org.folio.mosaic.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.folio.mosaic.domain.entity.base.AuditableEntity;
+
+@Entity
+@Table(name = "mosaic_order_idempotency")
+@Data
+@EqualsAndHashCode(callSuper = false)
+@ToString(callSuper = true)
+public class MosaicOrderIdempotencyEntity extends AuditableEntity {
+
+  @Id
+  @Column(name = "idempotency_key")
+  private String idempotencyKey;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private Status status;
+
+  @Column(name = "po_id")
+  private String poId;
+
+  @Column(name = "po_line_number")
+  private String poLineNumber;
+
+  public enum Status {
+    IN_PROGRESS,
+    COMPLETED
+  }
+
+}
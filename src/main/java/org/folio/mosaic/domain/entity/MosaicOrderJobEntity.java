@@ -0,0 +1,49 @@
+package org.folio.mosaic.domain.entity;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.folio.mosaic.domain.entity.base.AuditableEntity;
+import org.hibernate.annotations.ColumnTransformer;
+
+@Entity
+@Table(name = "mosaic_order_job")
+@Data
+@EqualsAndHashCode(callSuper = false)
+@ToString(callSuper = true)
+public class MosaicOrderJobEntity extends AuditableEntity {
+
+  @Id
+  private UUID id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false)
+  private Status status;
+
+  @ToString.Exclude
+  @ColumnTransformer(write = "?::jsonb")
+  @Column(name = "order_request", nullable = false, columnDefinition = "jsonb")
+  private String orderRequest;
+
+  @Column(name = "po_line_number")
+  private String poLineNumber;
+
+  @Column(name = "error_message")
+  private String errorMessage;
+
+  public enum Status {
+    PENDING,
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+  }
+
+}
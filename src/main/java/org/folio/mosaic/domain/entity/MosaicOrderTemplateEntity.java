@@ -0,0 +1,46 @@
+package org.folio.mosaic.domain.entity;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.ToString;
+import org.hibernate.annotations.ColumnTransformer;
+
+/**
+ * Local copy of an order template of mod-orders, kept in sync by the template mirror.
+ */
+@Entity
+@Table(name = "mosaic_order_template")
+@Data
+public class MosaicOrderTemplateEntity {
+
+  @Id
+  private UUID id;
+
+  @ToString.Exclude
+  @ColumnTransformer(write = "?::jsonb")
+  @Column(name = "template", nullable = false, columnDefinition = "jsonb")
+  private String template;
+
+  /**
+   * Incremented every time the synced template differs from the mirrored one.
+   */
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  /**
+   * Last update of the template in mod-orders, the watermark of the incremental sync.
+   */
+  @Column(name = "source_updated_date")
+  private OffsetDateTime sourceUpdatedDate;
+
+  @Column(name = "updated_date", nullable = false)
+  private LocalDateTime updatedDate;
+
+}
@@ -0,0 +1,21 @@
+package org.folio.mosaic.domain.mapper;
+
+import org.folio.mosaic.domain.dto.Error;
+import org.folio.mosaic.domain.dto.MosaicOrderJob;
+import org.folio.mosaic.domain.entity.MosaicOrderJobEntity;
+import org.folio.mosaic.util.error.ErrorCode;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR)
+public interface MosaicOrderJobMapper {
+
+  @Mapping(target = "error", source = "errorMessage")
+  MosaicOrderJob toDto(MosaicOrderJobEntity entity);
+
+  default Error toError(String errorMessage) {
+    return errorMessage != null ? ErrorCode.INTERNAL_ERROR.toError().message(errorMessage) : null;
+  }
+
+}
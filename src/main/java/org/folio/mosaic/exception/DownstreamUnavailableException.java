@@ -0,0 +1,18 @@
+package org.folio.mosaic.exception;
+
+/**
+ * Exception thrown when a call to a downstream module is rejected without being sent,
+ * because its circuit breaker is open or its concurrent calls are exhausted.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+
+  private static final String DOWNSTREAM_UNAVAILABLE_MSG_TEMPLATE = "Downstream '%s' is unavailable: %s";
+
+  public DownstreamUnavailableException(String downstream, Throwable cause) {
+    super(DOWNSTREAM_UNAVAILABLE_MSG_TEMPLATE.formatted(downstream, cause.getMessage()), cause);
+  }
+
+  public DownstreamUnavailableException(String downstream, String reason) {
+    super(DOWNSTREAM_UNAVAILABLE_MSG_TEMPLATE.formatted(downstream, reason));
+  }
+}
@@ -0,0 +1,12 @@
+package org.folio.mosaic.exception;
+
+/**
+ * Exception thrown when a request is well-formed but cannot be processed as sent,
+ * e.g. a batch exceeding the configured maximum size.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+  public InvalidRequestException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,21 @@
+package org.folio.mosaic.exception;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a tenant exceeds its order rate limit.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+  private static final String TOO_MANY_REQUESTS_MSG_TEMPLATE = "Order rate limit of tenant '%s' is exceeded, retry after %d seconds";
+
+  private final Duration retryAfter;
+
+  public TooManyRequestsException(String tenantId, Duration retryAfter) {
+    super(TOO_MANY_REQUESTS_MSG_TEMPLATE.formatted(tenantId, retryAfter.toSeconds()));
+    this.retryAfter = retryAfter;
+  }
+}
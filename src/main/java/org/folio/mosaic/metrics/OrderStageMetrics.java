@@ -0,0 +1,97 @@
+package org.folio.mosaic.metrics;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Latency histograms of the stages of the order pipeline, tagged by tenant, template and outcome,
+ * which tell apart time spent in mod-mosaic from time spent in mod-orders.
+ * <br><br>
+ * Template ids come from the requests, so only templates that were resolved are tagged by their id.
+ * Any other value, e.g. an unknown id or templateCode, is tagged as unknown, which keeps the number
+ * of series bounded by the number of existing templates.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStageMetrics {
+
+  public static final String METRIC_NAME = "mosaic.order.stage";
+  public static final String DEFAULT_TEMPLATE = "default";
+
+  private static final String UNKNOWN = "unknown";
+  private static final String SUCCESS = "success";
+  private static final String FAILURE = "failure";
+
+  private final MeterRegistry meterRegistry;
+  private final FolioExecutionContext folioExecutionContext;
+  private final Set<String> resolvedTemplateIds = ConcurrentHashMap.newKeySet();
+
+  @Getter
+  @RequiredArgsConstructor
+  public enum Stage {
+    CONFIGURATION("configuration"),
+    TEMPLATE_MIRROR("template_mirror"),
+    TEMPLATE_FETCH("template_fetch"),
+    TEMPLATE_PARSE("template_parse"),
+    CONVERSION("conversion"),
+    ORDER_CREATE("order_create");
+
+    private final String value;
+  }
+
+  /**
+   * Times the given stage, the outcome is a failure if the stage throws.
+   *
+   * @param stage      stage of the order pipeline
+   * @param templateId id of the order template the order is created from
+   * @param action     the stage
+   * @return the result of the stage
+   */
+  public <T> T record(Stage stage, String templateId, Supplier<T> action) {
+    var sample = Timer.start(meterRegistry);
+    var outcome = FAILURE;
+    try {
+      var result = action.get();
+      outcome = SUCCESS;
+      return result;
+    } finally {
+      sample.stop(timer(stage, templateId, outcome));
+    }
+  }
+
+  /**
+   * Lets the stages of the template be tagged by its id from now on.
+   *
+   * @param templateId id of an order template found in mod-orders
+   */
+  public void templateResolved(String templateId) {
+    if (templateId != null) {
+      resolvedTemplateIds.add(templateId);
+    }
+  }
+
+  private Timer timer(Stage stage, String templateId, String outcome) {
+    return Timer.builder(METRIC_NAME)
+      .description("Latency of the stages of mosaic order creation")
+      .tag("stage", stage.getValue())
+      .tag("tenant", Objects.requireNonNullElse(folioExecutionContext.getTenantId(), UNKNOWN))
+      .tag("template", templateTag(templateId))
+      .tag("outcome", outcome)
+      .publishPercentileHistogram()
+      .register(meterRegistry);
+  }
+
+  private String templateTag(String templateId) {
+    return DEFAULT_TEMPLATE.equals(templateId) || resolvedTemplateIds.contains(templateId) ? templateId : UNKNOWN;
+  }
+}
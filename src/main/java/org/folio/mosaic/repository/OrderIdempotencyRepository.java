@@ -0,0 +1,71 @@
+package org.folio.mosaic.repository;
+
+import java.util.Optional;
+
+import org.folio.mosaic.domain.entity.MosaicOrderIdempotencyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OrderIdempotencyRepository extends JpaRepository<MosaicOrderIdempotencyEntity, String> {
+
+  /**
+   * Reads the current state of the key straight from the database, bypassing the persistence context,
+   * so that polling for an attempt made by another instance observes its completion.
+   */
+  Optional<IdempotencyState> findStateByIdempotencyKey(String idempotencyKey);
+
+  /**
+   * Claims the key for a new order creation attempt. A key held by an attempt that has not completed
+   * within the lock timeout (e.g. the instance died) is taken over.
+   *
+   * @return 1 if the key was claimed, 0 if it is completed or held by another attempt
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(value = """
+    INSERT INTO mosaic_order_idempotency (idempotency_key, status, created_date, updated_date)
+    VALUES (:key, 'IN_PROGRESS', now(), now())
+    ON CONFLICT (idempotency_key) DO UPDATE SET updated_date = now()
+    WHERE mosaic_order_idempotency.status = 'IN_PROGRESS'
+      AND mosaic_order_idempotency.updated_date < now() - make_interval(secs => :lockTimeoutSeconds)
+    """, nativeQuery = true)
+  int claim(@Param("key") String key, @Param("lockTimeoutSeconds") long lockTimeoutSeconds);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("""
+    UPDATE MosaicOrderIdempotencyEntity e
+    SET e.status = org.folio.mosaic.domain.entity.MosaicOrderIdempotencyEntity.Status.COMPLETED,
+        e.poId = :poId, e.poLineNumber = :poLineNumber, e.updatedDate = LOCAL DATETIME
+    WHERE e.idempotencyKey = :key
+    """)
+  int complete(@Param("key") String key, @Param("poId") String poId, @Param("poLineNumber") String poLineNumber);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM MosaicOrderIdempotencyEntity e WHERE e.idempotencyKey = :key")
+  int release(@Param("key") String key);
+
+  /**
+   * Deletes the keys last claimed or completed longer than the retention ago, a retry arriving later creates
+   * a new order.
+   *
+   * @return number of deleted keys
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(value = """
+    DELETE FROM mosaic_order_idempotency
+    WHERE updated_date < now() - make_interval(secs => :retentionSeconds)
+    """, nativeQuery = true)
+  int deleteExpired(@Param("retentionSeconds") long retentionSeconds);
+
+  record IdempotencyState(MosaicOrderIdempotencyEntity.Status status, String poLineNumber) {
+  }
+
+}
@@ -0,0 +1,65 @@
+package org.folio.mosaic.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.folio.mosaic.domain.entity.MosaicOrderJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OrderJobRepository extends JpaRepository<MosaicOrderJobEntity, UUID> {
+
+  Optional<MosaicOrderJobEntity> findFirstByStatusOrderByCreatedDateAsc(MosaicOrderJobEntity.Status status);
+
+  boolean existsByStatus(MosaicOrderJobEntity.Status status);
+
+  /**
+   * Moves the job to the new status only if it is still in the expected one,
+   * so a job is claimed by exactly one worker. The update date records when it was claimed.
+   *
+   * @return number of updated jobs, 0 if the job was claimed by another worker
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("""
+    UPDATE MosaicOrderJobEntity j SET j.status = :newStatus, j.updatedDate = LOCAL DATETIME
+    WHERE j.id = :id AND j.status = :expectedStatus
+    """)
+  int updateStatus(@Param("id") UUID id,
+                   @Param("expectedStatus") MosaicOrderJobEntity.Status expectedStatus,
+                   @Param("newStatus") MosaicOrderJobEntity.Status newStatus);
+
+  /**
+   * Puts the jobs claimed longer than the timeout ago and still in progress back to pending,
+   * their worker is assumed to be gone (e.g. the instance crashed).
+   *
+   * @return number of reclaimed jobs
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(value = """
+    UPDATE mosaic_order_job SET status = 'PENDING', updated_date = localtimestamp
+    WHERE status = 'IN_PROGRESS' AND updated_date < localtimestamp - make_interval(secs => :staleAfterSeconds)
+    """, nativeQuery = true)
+  int reclaimStaleJobs(@Param("staleAfterSeconds") long staleAfterSeconds);
+
+  /**
+   * Deletes the completed and failed jobs submitted longer than the retention ago,
+   * their status can no longer be looked up.
+   *
+   * @return number of deleted jobs
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(value = """
+    DELETE FROM mosaic_order_job
+    WHERE status IN ('COMPLETED', 'FAILED') AND created_date < localtimestamp - make_interval(secs => :retentionSeconds)
+    """, nativeQuery = true)
+  int deleteExpiredJobs(@Param("retentionSeconds") long retentionSeconds);
+
+}
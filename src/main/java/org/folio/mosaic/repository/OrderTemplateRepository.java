@@ -0,0 +1,46 @@
+package org.folio.mosaic.repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.folio.mosaic.domain.entity.MosaicOrderTemplateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface OrderTemplateRepository extends JpaRepository<MosaicOrderTemplateEntity, UUID> {
+
+  @Query("SELECT t.template FROM MosaicOrderTemplateEntity t WHERE t.id = :id")
+  Optional<String> findTemplateById(@Param("id") UUID id);
+
+  /**
+   * Stores the template, bumping its version only if it differs from the mirrored one.
+   *
+   * @return 1 if the template was inserted or changed, 0 if it is already up to date
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(value = """
+    INSERT INTO mosaic_order_template (id, template, version, source_updated_date, updated_date)
+    VALUES (:id, CAST(:template AS jsonb), 1, :sourceUpdatedDate, now())
+    ON CONFLICT (id) DO UPDATE SET template = EXCLUDED.template,
+      version = mosaic_order_template.version + 1,
+      source_updated_date = EXCLUDED.source_updated_date,
+      updated_date = now()
+    WHERE mosaic_order_template.template IS DISTINCT FROM EXCLUDED.template
+    """, nativeQuery = true)
+  int upsert(@Param("id") UUID id, @Param("template") String template,
+             @Param("sourceUpdatedDate") OffsetDateTime sourceUpdatedDate);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM MosaicOrderTemplateEntity t WHERE t.id NOT IN :ids")
+  int deleteByIdNotIn(@Param("ids") Collection<UUID> ids);
+
+}
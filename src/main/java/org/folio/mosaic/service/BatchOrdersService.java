@@ -0,0 +1,149 @@
+package org.folio.mosaic.service;
+
+import static org.folio.mosaic.util.FolioContextUtils.snapshot;
+import static org.folio.mosaic.util.FolioContextUtils.withContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.domain.dto.MosaicOrderBatchResponse;
+import org.folio.mosaic.domain.dto.MosaicOrderBatchResult;
+import org.folio.mosaic.exception.InvalidRequestException;
+import org.folio.mosaic.util.error.ErrorUtils;
+import org.folio.rest.acq.model.mosaic.MosaicOrderRequest;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class BatchOrdersService {
+
+  private final OrdersService ordersService;
+  private final OrdersProperties ordersProperties;
+  private final FolioExecutionContext folioExecutionContext;
+
+  /**
+   * Rejects batches larger than the configured maximum size, before any of their orders is charged or processed.
+   *
+   * @param size number of orders of the batch
+   * @throws InvalidRequestException if the batch exceeds the maximum size
+   */
+  public void validateBatchSize(int size) {
+    var maxSize = ordersProperties.getBatch().getMaxSize();
+    if (size > maxSize) {
+      throw new InvalidRequestException("Batch size %d exceeds the maximum of %d orders".formatted(size, maxSize));
+    }
+  }
+
+  /**
+   * Creates a batch of orders. Every distinct order template is resolved and compiled once, then the orders
+   * are submitted to mod-orders concurrently on virtual threads, limited by the configured parallelism.
+   *
+   * @param orderRequests The mosaic order requests
+   * @return The result of every order, in the order of the requests
+   */
+  public MosaicOrderBatchResponse createOrders(List<MosaicOrderRequest> orderRequests) {
+    var batchSettings = ordersProperties.getBatch();
+    validateBatchSize(orderRequests.size());
+    log.info("createOrders:: Creating batch of {} mosaic orders", orderRequests.size());
+
+    // Every template is resolved once, by the template id or code of the requests and then by the template id
+    var templatesByRequest = new HashMap<String, ResolvedTemplate>();
+    var templatesById = new HashMap<String, ResolvedTemplate>();
+    var templates = new ArrayList<ResolvedTemplate>(orderRequests.size());
+    for (var orderRequest : orderRequests) {
+      templates.add(templatesByRequest.computeIfAbsent(orderRequest.getOrderTemplateId(),
+        requestTemplateId -> resolveTemplate(requestTemplateId, templatesById)));
+    }
+
+    var context = snapshot(folioExecutionContext);
+    var permits = new Semaphore(batchSettings.getParallelism());
+    var futures = new ArrayList<Future<MosaicOrderBatchResult>>(orderRequests.size());
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < orderRequests.size(); i++) {
+        var mosaicOrder = orderRequests.get(i).getMosaicOrder();
+        var template = templates.get(i);
+        if (template.failure() != null) {
+          futures.add(CompletableFuture.completedFuture(failed(template.failure())));
+          continue;
+        }
+        futures.add(executor.submit(withContext(context, () -> {
+          permits.acquire();
+          try {
+            return succeeded(ordersService.createOrder(mosaicOrder, template.templateId(), template.prototype()));
+          } catch (Exception e) {
+            log.warn("createOrders:: Failed to create mosaic order with title: {}", mosaicOrder.getTitle(), e);
+            return failed(e);
+          } finally {
+            permits.release();
+          }
+        })));
+      }
+    }
+
+    var results = futures.stream().map(BatchOrdersService::getResult).toList();
+    return new MosaicOrderBatchResponse().results(results).totalRecords(results.size());
+  }
+
+  private ResolvedTemplate resolveTemplate(String requestTemplateId, Map<String, ResolvedTemplate> templatesById) {
+    String templateId;
+    try {
+      templateId = ordersService.resolveTemplateId(requestTemplateId);
+    } catch (Exception e) {
+      log.warn("resolveTemplate:: Failed to resolve order template: {}", requestTemplateId, e);
+      return ResolvedTemplate.failed(requestTemplateId, e);
+    }
+    return templatesById.computeIfAbsent(templateId, this::compileTemplate);
+  }
+
+  private ResolvedTemplate compileTemplate(String templateId) {
+    try {
+      return new ResolvedTemplate(templateId, ordersService.getOrderTemplatePrototype(templateId), null);
+    } catch (Exception e) {
+      log.warn("compileTemplate:: Failed to compile order template: {}", templateId, e);
+      return ResolvedTemplate.failed(templateId, e);
+    }
+  }
+
+  private static MosaicOrderBatchResult getResult(Future<MosaicOrderBatchResult> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return failed(e);
+    } catch (ExecutionException e) {
+      return failed(e.getCause() instanceof Exception cause ? cause : e);
+    }
+  }
+
+  private static MosaicOrderBatchResult succeeded(String poLineNumber) {
+    return new MosaicOrderBatchResult()
+      .status(MosaicOrderBatchResult.StatusEnum.SUCCESS)
+      .poLineNumber(poLineNumber);
+  }
+
+  private static MosaicOrderBatchResult failed(Exception e) {
+    return new MosaicOrderBatchResult()
+      .status(MosaicOrderBatchResult.StatusEnum.FAILED)
+      .error(ErrorUtils.getError(e));
+  }
+
+  private record ResolvedTemplate(String templateId, OrderTemplatePrototype prototype, Exception failure) {
+
+    private static ResolvedTemplate failed(String templateId, Exception failure) {
+      return new ResolvedTemplate(templateId, null, failure);
+    }
+  }
+}
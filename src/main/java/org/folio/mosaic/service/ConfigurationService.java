@@ -2,6 +2,7 @@ package org.folio.mosaic.service;
 
 import java.util.UUID;
 
+import org.folio.mosaic.cache.ConfigurationCache;
 import org.folio.mosaic.domain.entity.MosaicConfigurationEntity;
 import org.folio.mosaic.domain.mapper.MosaicConfigurationMapper;
 import org.folio.mosaic.exception.ResourceNotFoundException;
@@ -21,21 +22,34 @@ public class ConfigurationService {
 
   private final ConfigurationRepository configurationRepository;
   private final MosaicConfigurationMapper mapper;
+  private final ConfigurationCache configurationCache;
 
+  /**
+   * Returns the configuration of the current tenant from the cached snapshot, the database is
+   * only read on a cold cache or after the snapshot was invalidated.
+   */
   public MosaicConfiguration getConfiguration() {
-    return mapper.toDto(getConfigurationEntity());
+    return mapper.toDto(requireExists(configurationCache.get(this::findConfigurationEntity)));
   }
 
   @Transactional
   public void updateConfiguration(MosaicConfiguration configuration) {
-    val existingConfiguration = getConfigurationEntity();
+    val existingConfiguration = requireExists(findConfigurationEntity());
     existingConfiguration.setDefaultTemplateId(UUID.fromString(configuration.getDefaultTemplateId()));
     configurationRepository.save(existingConfiguration);
+    configurationCache.invalidateAfterCommit();
   }
 
-  private MosaicConfigurationEntity getConfigurationEntity() {
+  private MosaicConfigurationEntity findConfigurationEntity() {
     return configurationRepository.findAll().stream()
       .findFirst()
-      .orElseThrow(() -> new ResourceNotFoundException(MosaicConfigurationEntity.class));
+      .orElse(null);
+  }
+
+  private static MosaicConfigurationEntity requireExists(MosaicConfigurationEntity configuration) {
+    if (configuration == null) {
+      throw new ResourceNotFoundException(MosaicConfigurationEntity.class);
+    }
+    return configuration;
   }
 }
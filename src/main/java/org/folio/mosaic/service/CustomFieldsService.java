@@ -0,0 +1,95 @@
+package org.folio.mosaic.service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.ObjectUtils;
+import org.folio.mosaic.cache.CustomFieldDefinitionsCache;
+import org.folio.mosaic.client.CustomFieldsClient;
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.exception.InvalidRequestException;
+import org.folio.rest.acq.model.mosaic.MosaicCustomFields;
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
+import org.springframework.stereotype.Service;
+
+import tools.jackson.databind.JsonNode;
+
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class CustomFieldsService {
+
+  private static final String DEFINITIONS_QUERY = "entityType==(purchase_order or po_line)";
+  private static final int DEFINITIONS_LIMIT = 1000;
+  private static final String CUSTOM_FIELDS = "customFields";
+  private static final String TOTAL_RECORDS = "totalRecords";
+  private static final String ENTITY_TYPE = "entityType";
+  private static final String REF_ID = "refId";
+
+  private final CustomFieldsClient customFieldsClient;
+  private final CustomFieldDefinitionsCache customFieldDefinitionsCache;
+  private final OrdersProperties ordersProperties;
+
+  /**
+   * Validates that the custom fields of the order refer to custom fields defined for the tenant, if enabled.
+   * If the definitions cannot be fetched, e.g. the optional custom-fields interface is not available,
+   * the validation is left to mod-orders.
+   *
+   * @param mosaicOrder The mosaic order from request
+   * @throws InvalidRequestException if a custom field refId is not defined for its entity type
+   */
+  public void validateCustomFields(MosaicOrder mosaicOrder) {
+    if (!ordersProperties.getCustomFields().isValidationEnabled() || ObjectUtils.isEmpty(mosaicOrder.getCustomFields())) {
+      return;
+    }
+    Map<String, Set<String>> definitions;
+    try {
+      definitions = customFieldDefinitionsCache.get(this::fetchDefinitions);
+    } catch (RuntimeException e) {
+      log.warn("validateCustomFields:: Failed to fetch custom field definitions, leaving the validation to mod-orders: {}",
+        e.getMessage());
+      return;
+    }
+    var unknownRefIds = mosaicOrder.getCustomFields().stream()
+      .filter(field -> field.getEntityType() != null && ObjectUtils.isNotEmpty(field.getAdditionalProperties()))
+      .filter(field -> !definitions.getOrDefault(entityType(field), Set.of()).contains(field.getRefId()))
+      .map(MosaicCustomFields::getRefId)
+      .distinct()
+      .toList();
+    if (!unknownRefIds.isEmpty()) {
+      log.warn("validateCustomFields:: Custom fields are not defined: {}", unknownRefIds);
+      throw new InvalidRequestException("Custom fields are not defined: %s".formatted(unknownRefIds));
+    }
+  }
+
+  private Map<String, Set<String>> fetchDefinitions() {
+    log.debug("fetchDefinitions:: Fetching custom field definitions of orders and poLines");
+    var moduleId = ordersProperties.getCustomFields().getModuleId();
+    var definitions = new HashMap<String, Set<String>>();
+    var offset = 0;
+    int pageSize;
+    int totalRecords;
+    do {
+      var response = customFieldsClient.getCustomFields(moduleId, DEFINITIONS_QUERY, offset, DEFINITIONS_LIMIT);
+      var customFields = response.path(CUSTOM_FIELDS);
+      pageSize = customFields.size();
+      for (var definition : customFields) {
+        definitions.computeIfAbsent(definition.path(ENTITY_TYPE).asString(), entityType -> new HashSet<>())
+          .add(definition.path(REF_ID).asString());
+      }
+      offset += pageSize;
+      totalRecords = response.path(TOTAL_RECORDS).asInt(offset);
+    } while (pageSize > 0 && offset < totalRecords);
+    definitions.replaceAll((entityType, refIds) -> Set.copyOf(refIds));
+    return Map.copyOf(definitions);
+  }
+
+  private static String entityType(MosaicCustomFields field) {
+    return field.getEntityType().name().toLowerCase(Locale.ROOT);
+  }
+}
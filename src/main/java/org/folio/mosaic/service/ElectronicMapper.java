@@ -1,6 +1,7 @@
 package org.folio.mosaic.service;
 
 import org.apache.commons.lang3.ObjectUtils;
+import org.folio.mosaic.util.EnumLookup;
 import org.folio.rest.acq.model.mosaic.MosaicOrder;
 import org.folio.rest.acq.model.orders.Eresource;
 import org.folio.rest.acq.model.orders.PoLine;
@@ -11,6 +12,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Component
 public class ElectronicMapper {
 
+  private static final EnumLookup<Eresource.CreateInventory> CREATE_INVENTORY = EnumLookup.byName(Eresource.CreateInventory.class);
+
   public void updatePoLineEResource(MosaicOrder mosaicOrder, PoLine poLine) {
     if (ObjectUtils.isEmpty(mosaicOrder.getEresource())) {
       return;
@@ -28,9 +31,7 @@ public class ElectronicMapper {
     if (ObjectUtils.isEmpty(mosaicOrder.getEresource().getCreateInventory())) {
       return;
     }
-    var createInventory = mosaicOrder.getEresource().getCreateInventory().name();
-
-    eresource.setCreateInventory(Eresource.CreateInventory.valueOf(createInventory));
+    eresource.setCreateInventory(CREATE_INVENTORY.map(mosaicOrder.getEresource().getCreateInventory()));
   }
 
   private void updatePoLineMaterialType(MosaicOrder mosaicOrder, Eresource eresource) {
@@ -0,0 +1,52 @@
+package org.folio.mosaic.service;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs background work (startup warm-up, scheduled syncs) for the tenants the module is enabled for,
+ * outside of any request and therefore without a tenant or a token bound to the thread. The work is done
+ * on behalf of the system user of the module, which is created when the module is enabled for the tenant.
+ */
+@Service
+public class EnabledTenantsService {
+
+  private final FolioModuleMetadata folioModuleMetadata;
+  private final JdbcTemplate jdbcTemplate;
+  private final SystemUserScopedExecutionService systemUserScopedExecutionService;
+
+  public EnabledTenantsService(FolioModuleMetadata folioModuleMetadata, JdbcTemplate jdbcTemplate,
+                               SystemUserScopedExecutionService systemUserScopedExecutionService) {
+    this.folioModuleMetadata = folioModuleMetadata;
+    this.jdbcTemplate = jdbcTemplate;
+    this.systemUserScopedExecutionService = systemUserScopedExecutionService;
+  }
+
+  /**
+   * Tenants are enabled once their schema exists, which is named after the tenant and the module.
+   */
+  public List<String> findEnabledTenants() {
+    var schemaSuffix = folioModuleMetadata.getDBSchemaName("");
+    return jdbcTemplate.queryForList("SELECT schema_name FROM information_schema.schemata WHERE schema_name LIKE ?",
+        String.class, "%" + schemaSuffix.replace("_", "\\_"))
+      .stream()
+      .map(schema -> schema.substring(0, schema.length() - schemaSuffix.length()))
+      .filter(StringUtils::isNotBlank)
+      .toList();
+  }
+
+  /**
+   * Runs the task within the execution context of the given tenant, authenticated as its system user.
+   */
+  public void runAsTenant(String tenant, Runnable task) {
+    systemUserScopedExecutionService.executeSystemUserScoped(tenant, () -> {
+      task.run();
+      return null;
+    });
+  }
+}
@@ -1,29 +1,49 @@
 package org.folio.mosaic.service;
 
-import static java.util.Collections.singletonList;
-import static org.folio.mosaic.util.error.CustomFieldsUtil.getCustomFieldsByEntityType;
+import static org.folio.mosaic.util.error.CustomFieldsUtil.partitionByEntityType;
+import static org.folio.rest.acq.model.mosaic.MosaicCustomFields.EntityType.PO_LINE;
 import static org.folio.rest.acq.model.mosaic.MosaicCustomFields.EntityType.PURCHASE_ORDER;
 
-import java.util.ArrayList;
-import java.util.UUID;
+import java.util.List;
+import java.util.Objects;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.folio.mosaic.util.EnumLookup;
+import org.folio.mosaic.util.FieldOverride;
 import org.folio.rest.acq.model.mosaic.MosaicOrder;
 import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
-import org.folio.rest.acq.model.orders.Ongoing;
 import org.folio.rest.acq.model.orders.PoLine;
 import org.springframework.stereotype.Service;
+import tools.jackson.databind.ObjectMapper;
 
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class MosaicOrderConverter {
 
+  private static final EnumLookup<CompositePurchaseOrder.WorkflowStatus> WORKFLOW_STATUS =
+    EnumLookup.byName(CompositePurchaseOrder.WorkflowStatus.class);
+
+  /**
+   * Order level overrides, applied in this order whenever the request has a value for the field
+   */
+  private static final List<FieldOverride<MosaicOrder, CompositePurchaseOrder, ?>> ORDER_OVERRIDES = List.of(
+    FieldOverride.of(MosaicOrder::getId, ObjectUtils::isNotEmpty, CompositePurchaseOrder::setId),
+    FieldOverride.of(MosaicOrder::getAssignedTo, ObjectUtils::isNotEmpty, CompositePurchaseOrder::setAssignedTo),
+    FieldOverride.of(MosaicOrder::getVendor, ObjectUtils::isNotEmpty, CompositePurchaseOrder::setVendor),
+    FieldOverride.of(mosaicOrder -> WORKFLOW_STATUS.map(mosaicOrder.getWorkflowStatus()), Objects::nonNull,
+      CompositePurchaseOrder::setWorkflowStatus),
+    FieldOverride.of(MosaicOrder::getBillTo, ObjectUtils::isNotEmpty, CompositePurchaseOrder::setBillTo),
+    FieldOverride.of(MosaicOrder::getShipTo, ObjectUtils::isNotEmpty, CompositePurchaseOrder::setShipTo),
+    FieldOverride.of(MosaicOrder::getAcqUnitIds, CollectionUtils::isNotEmpty, CompositePurchaseOrder::setAcqUnitIds),
+    FieldOverride.of(MosaicOrder::getNotes, CollectionUtils::isNotEmpty, CompositePurchaseOrder::setNotes));
+
   private final MosaicPoLineConverter mosaicPoLineConverter;
+  private final ObjectMapper objectMapper;
 
   /**
    * Converts a MosaicOrderRequest to a CompositePurchaseOrder
@@ -35,65 +55,28 @@ public class MosaicOrderConverter {
    * @return A CompositePurchaseOrder object ready to be sent to FOLIO
    */
   public CompositePurchaseOrder convertToCompositePurchaseOrder(MosaicOrder mosaicOrder, Pair<CompositePurchaseOrder, PoLine> templatePair) {
-    log.debug("convertToCompositePurchaseOrder:: Converting mosaicOrder: {} to compositePurchaseOrder", mosaicOrder.getTitle());
-
-    log.info("convertToCompositePurchaseOrder:: Using template: {}", templatePair.getKey().getId());
-    var order = createOrderFromTemplatePair(templatePair);
-
-    log.info("convertToCompositePurchaseOrder:: Applying overrides from mosaicOrder");
-    applyOverrides(order, mosaicOrder);
-
-    return order;
+    return convertToCompositePurchaseOrder(mosaicOrder, OrderTemplatePrototype.compile(templatePair, objectMapper));
   }
 
   /**
-   * Creates a CompositePurchaseOrder with an included PoLine from a template
+   * Converts a MosaicOrderRequest to a CompositePurchaseOrder
+   * 1. Clones the order and its PoLine from the template prototype
+   * 2. Override values from the request
    *
-   * @param templatePair Holding order and poLine template fields
-   * @return A CompositePurchaseOrder object with an included PoLine
+   * @param mosaicOrder The mosaic order from request
+   * @param prototype   The compiled order template to use
+   * @return A CompositePurchaseOrder object ready to be sent to FOLIO
    */
-  private CompositePurchaseOrder createOrderFromTemplatePair(Pair<CompositePurchaseOrder, PoLine> templatePair) {
-    log.debug("createOrderFromTemplatePair:: Creating order from template: {}", templatePair.getKey().getId());
+  public CompositePurchaseOrder convertToCompositePurchaseOrder(MosaicOrder mosaicOrder, OrderTemplatePrototype prototype) {
+    log.debug("convertToCompositePurchaseOrder:: Converting mosaicOrder: {} to compositePurchaseOrder", mosaicOrder.getTitle());
 
-    var orderTemplate = templatePair.getKey();
-    var orderType = ObjectUtils.isNotEmpty(orderTemplate.getOrderType())
-      ? orderTemplate.getOrderType() : CompositePurchaseOrder.OrderType.ONE_TIME;
-    var ongoing = orderTemplate.getOngoing();
-    if (orderType == CompositePurchaseOrder.OrderType.ONGOING && ObjectUtils.isEmpty(ongoing)) {
-      ongoing = new Ongoing();
-    }
-    var poLine = mosaicPoLineConverter.createPoLineFromTemplate(templatePair.getValue());
+    log.info("convertToCompositePurchaseOrder:: Using template: {}", prototype.getTemplateId());
+    var order = prototype.newOrder();
 
-    return new CompositePurchaseOrder()
-      .withId(UUID.randomUUID().toString())
-      .withApproved(orderTemplate.getApproved())
-      .withApprovedById(orderTemplate.getApprovedById())
-      .withApprovalDate(orderTemplate.getApprovalDate())
-      .withAssignedTo(orderTemplate.getAssignedTo())
-      .withBillTo(orderTemplate.getBillTo())
-      .withCloseReason(orderTemplate.getCloseReason())
-      .withDateOrdered(orderTemplate.getDateOrdered())
-      .withManualPo(orderTemplate.getManualPo())
-      .withNotes(orderTemplate.getNotes())
-      .withPoNumberPrefix(orderTemplate.getPoNumberPrefix())
-      .withPoNumberSuffix(orderTemplate.getPoNumberSuffix())
-      .withOrderType(orderType)
-      .withReEncumber(orderTemplate.getReEncumber())
-      .withOngoing(ongoing)
-      .withShipTo(orderTemplate.getShipTo())
-      .withTemplate(orderTemplate.getId())
-      .withTotalCredited(orderTemplate.getTotalCredited())
-      .withTotalEstimatedPrice(orderTemplate.getTotalEstimatedPrice())
-      .withTotalEncumbered(orderTemplate.getTotalEncumbered())
-      .withTotalExpended(orderTemplate.getTotalExpended())
-      .withTotalItems(orderTemplate.getTotalItems())
-      .withVendor(orderTemplate.getVendor())
-      .withWorkflowStatus(orderTemplate.getWorkflowStatus())
-      .withPoLines(new ArrayList<>(singletonList(poLine)))
-      .withAcqUnitIds(orderTemplate.getAcqUnitIds())
-      .withNextPolNumber(orderTemplate.getNextPolNumber())
-      .withTags(orderTemplate.getTags())
-      .withCustomFields(orderTemplate.getCustomFields());
+    log.info("convertToCompositePurchaseOrder:: Applying overrides from mosaicOrder");
+    applyOverrides(order, mosaicOrder);
+
+    return order;
   }
 
   /**
@@ -104,33 +87,12 @@ public class MosaicOrderConverter {
    * @param mosaicOrder The request containing override values
    */
   public void applyOverrides(CompositePurchaseOrder order, MosaicOrder mosaicOrder) {
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getId())) {
-      order.setId(mosaicOrder.getId());
-    }
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getAssignedTo())) {
-      order.setAssignedTo(mosaicOrder.getAssignedTo());
-    }
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getVendor())) {
-      order.setVendor(mosaicOrder.getVendor());
-    }
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getWorkflowStatus())) {
-      var workflowStatus = mosaicOrder.getWorkflowStatus().name();
-      order.setWorkflowStatus(CompositePurchaseOrder.WorkflowStatus.valueOf(workflowStatus));
-    }
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getBillTo())) {
-      order.setBillTo(mosaicOrder.getBillTo());
-    }
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getShipTo())) {
-      order.setShipTo(mosaicOrder.getShipTo());
-    }
-    if (CollectionUtils.isNotEmpty(mosaicOrder.getAcqUnitIds())) {
-      order.setAcqUnitIds(mosaicOrder.getAcqUnitIds());
-    }
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getCustomFields())) {
-      var customFields = getCustomFieldsByEntityType(mosaicOrder, PURCHASE_ORDER);
-      order.setCustomFields(customFields);
+    FieldOverride.applyAll(ORDER_OVERRIDES, mosaicOrder, order);
+    var customFields = partitionByEntityType(mosaicOrder);
+    if (customFields.containsKey(PURCHASE_ORDER)) {
+      order.setCustomFields(customFields.get(PURCHASE_ORDER));
     }
 
-    mosaicPoLineConverter.applyOverridesToPoLine(order, mosaicOrder);
+    mosaicPoLineConverter.applyOverridesToPoLine(order, mosaicOrder, customFields.get(PO_LINE));
   }
 }
@@ -4,10 +4,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.mosaic.util.EnumLookup;
+import org.folio.mosaic.util.FieldOverride;
 import org.folio.rest.acq.model.mosaic.MosaicOrder;
 import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
 import org.folio.rest.acq.model.orders.Contributor;
 import org.folio.rest.acq.model.orders.Cost;
+import org.folio.rest.acq.model.orders.CustomFields;
 import org.folio.rest.acq.model.orders.Details;
 import org.folio.rest.acq.model.orders.FundDistribution;
 import org.folio.rest.acq.model.orders.OrderFormat;
@@ -20,11 +24,11 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
+import java.util.Objects;
 
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
-import static org.folio.mosaic.util.error.CustomFieldsUtil.getCustomFieldsByEntityType;
+import static org.folio.mosaic.util.error.CustomFieldsUtil.partitionByEntityType;
 import static org.folio.rest.acq.model.mosaic.MosaicCustomFields.EntityType.PO_LINE;
 
 @Log4j2
@@ -32,62 +36,31 @@ import static org.folio.rest.acq.model.mosaic.MosaicCustomFields.EntityType.PO_L
 @RequiredArgsConstructor
 public class MosaicPoLineConverter {
 
-  private final PhysicalMapper physicalMapper;
-  private final ElectronicMapper electronicMapper;
+  private static final EnumLookup<OrderFormat> ORDER_FORMAT = EnumLookup.byName(OrderFormat.class);
+  private static final EnumLookup<ReferenceNumberItem.RefNumberType> REF_NUMBER_TYPE =
+    EnumLookup.byValue(ReferenceNumberItem.RefNumberType.class, ReferenceNumberItem.RefNumberType::fromValue);
+  private static final EnumLookup<FundDistribution.DistributionType> DISTRIBUTION_TYPE =
+    EnumLookup.byValue(FundDistribution.DistributionType.class, FundDistribution.DistributionType::fromValue);
 
   /**
-   * Creates a PoLine from a template
-   *
-   * @param poLineTemplate Holding poLine template fields
-   * @return A PoLine object
+   * PoLine level overrides, applied in this order whenever the request has a value for the field.
+   * The order format comes before the nested objects, as the cost depends on it.
    */
-  public PoLine createPoLineFromTemplate(PoLine poLineTemplate) {
-    return new PoLine()
-      .withId(UUID.randomUUID().toString())
-      .withEdition(poLineTemplate.getEdition())
-      .withCheckinItems(poLineTemplate.getCheckinItems())
-      .withAgreementId(poLineTemplate.getAgreementId())
-      .withAcquisitionMethod(poLineTemplate.getAcquisitionMethod())
-      .withAutomaticExport(poLineTemplate.getAutomaticExport())
-      .withCancellationRestriction(poLineTemplate.getCancellationRestriction())
-      .withCancellationRestrictionNote(poLineTemplate.getCancellationRestrictionNote())
-      .withClaims(poLineTemplate.getClaims())
-      .withClaimingActive(poLineTemplate.getClaimingActive())
-      .withClaimingInterval(poLineTemplate.getClaimingInterval())
-      .withCollection(poLineTemplate.getCollection())
-      .withContributors(poLineTemplate.getContributors())
-      .withCost(poLineTemplate.getCost())
-      .withDescription(poLineTemplate.getDescription())
-      .withDetails(poLineTemplate.getDetails())
-      .withDonor(poLineTemplate.getDonor())
-      .withDonorOrganizationIds(poLineTemplate.getDonorOrganizationIds())
-      .withEresource(poLineTemplate.getEresource())
-      .withFundDistribution(poLineTemplate.getFundDistribution())
-      .withInstanceId(poLineTemplate.getInstanceId())
-      .withSuppressInstanceFromDiscovery(poLineTemplate.getSuppressInstanceFromDiscovery())
-      .withIsPackage(poLineTemplate.getIsPackage())
-      .withLocations(poLineTemplate.getLocations())
-      .withSearchLocationIds(poLineTemplate.getSearchLocationIds())
-      .withLastEDIExportDate(poLineTemplate.getLastEDIExportDate())
-      .withOrderFormat(poLineTemplate.getOrderFormat())
-      .withPackagePoLineId(poLineTemplate.getPackagePoLineId())
-      .withPaymentStatus(poLineTemplate.getPaymentStatus())
-      .withPhysical(poLineTemplate.getPhysical())
-      .withPoLineDescription(poLineTemplate.getPoLineDescription())
-      .withPublicationDate(poLineTemplate.getPublicationDate())
-      .withPublisher(poLineTemplate.getPublisher())
-      .withReceiptDate(poLineTemplate.getReceiptDate())
-      .withReceiptStatus(poLineTemplate.getReceiptStatus())
-      .withRenewalNote(poLineTemplate.getRenewalNote())
-      .withRequester(poLineTemplate.getRequester())
-      .withRush(poLineTemplate.getRush())
-      .withSelector(poLineTemplate.getSelector())
-      .withSource(PoLine.Source.API)
-      .withTags(poLineTemplate.getTags())
-      .withTitleOrPackage(poLineTemplate.getTitleOrPackage())
-      .withVendorDetail(poLineTemplate.getVendorDetail())
-      .withCustomFields(poLineTemplate.getCustomFields());
-  }
+  private static final List<FieldOverride<MosaicOrder, PoLine, ?>> PO_LINE_OVERRIDES = List.of(
+    FieldOverride.of(MosaicOrder::getTitle, StringUtils::isNotBlank, PoLine::setTitleOrPackage),
+    FieldOverride.of(MosaicOrder::getPublicationDate, StringUtils::isNotBlank, PoLine::setPublicationDate),
+    FieldOverride.of(MosaicOrder::getEdition, StringUtils::isNotBlank, PoLine::setEdition),
+    FieldOverride.of(MosaicOrder::getRequesterName, StringUtils::isNotBlank, PoLine::setRequester),
+    FieldOverride.of(MosaicOrder::getSelectorName, StringUtils::isNotBlank, PoLine::setSelector),
+    FieldOverride.of(MosaicOrder::getPoLineDescription, StringUtils::isNotBlank, PoLine::setPoLineDescription),
+    FieldOverride.of(MosaicOrder::getInternalNote, StringUtils::isNotBlank, PoLine::setDescription),
+    FieldOverride.of(MosaicOrder::getRenewalNote, StringUtils::isNotBlank, PoLine::setRenewalNote),
+    FieldOverride.of(MosaicOrder::getAcquisitionMethod, StringUtils::isNotBlank, PoLine::setAcquisitionMethod),
+    FieldOverride.of(MosaicOrder::getCheckinItems, ObjectUtils::isNotEmpty, PoLine::setCheckinItems),
+    FieldOverride.of(mosaicOrder -> ORDER_FORMAT.map(mosaicOrder.getFormat()), Objects::nonNull, PoLine::setOrderFormat));
+
+  private final PhysicalMapper physicalMapper;
+  private final ElectronicMapper electronicMapper;
 
   /**
    * Applies overrides from the request to the poLine.
@@ -97,46 +70,23 @@ public class MosaicPoLineConverter {
    * @param mosaicOrder The request containing override values
    */
   public void applyOverridesToPoLine(CompositePurchaseOrder order, MosaicOrder mosaicOrder) {
+    applyOverridesToPoLine(order, mosaicOrder, partitionByEntityType(mosaicOrder).get(PO_LINE));
+  }
+
+  /**
+   * Applies overrides from the request to the poLine, with the poLine custom fields already split from the request.
+   *
+   * @param order        The purchase order to modify
+   * @param mosaicOrder  The request containing override values
+   * @param customFields The poLine custom fields of the request, or null if the request has no custom fields
+   */
+  public void applyOverridesToPoLine(CompositePurchaseOrder order, MosaicOrder mosaicOrder, CustomFields customFields) {
     var poLine = order.getPoLines().getFirst();
-    if (isNotBlank(mosaicOrder.getTitle())) {
-      poLine.setTitleOrPackage(mosaicOrder.getTitle());
-    }
-    if (isNotBlank(mosaicOrder.getPublicationDate())) {
-      poLine.setPublicationDate(mosaicOrder.getPublicationDate());
-    }
-    if (isNotBlank(mosaicOrder.getEdition())) {
-      poLine.setEdition(mosaicOrder.getEdition());
-    }
-    if (isNotBlank(mosaicOrder.getRequesterName())) {
-      poLine.setRequester(mosaicOrder.getRequesterName());
-    }
-    if (isNotBlank(mosaicOrder.getSelectorName())) {
-      poLine.setSelector(mosaicOrder.getSelectorName());
-    }
-    if (CollectionUtils.isNotEmpty(mosaicOrder.getNotes())) {
-      order.setNotes(mosaicOrder.getNotes());
-    }
-    if (isNotBlank(mosaicOrder.getPoLineDescription())) {
-      poLine.setPoLineDescription(mosaicOrder.getPoLineDescription());
-    }
-    if (isNotBlank(mosaicOrder.getInternalNote())) {
-      poLine.setDescription(mosaicOrder.getInternalNote());
-    }
-    if (isNotBlank(mosaicOrder.getRenewalNote())) {
-      poLine.setRenewalNote(mosaicOrder.getRenewalNote());
-    }
-    if (isNotBlank(mosaicOrder.getAcquisitionMethod())) {
-      poLine.setAcquisitionMethod(mosaicOrder.getAcquisitionMethod());
-    }
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getCheckinItems())) {
-      poLine.setCheckinItems(mosaicOrder.getCheckinItems());
-    }
-    if (ObjectUtils.isNotEmpty(mosaicOrder.getCustomFields())) {
-      var customFields = getCustomFieldsByEntityType(mosaicOrder, PO_LINE);
+    FieldOverride.applyAll(PO_LINE_OVERRIDES, mosaicOrder, poLine);
+    if (customFields != null) {
       poLine.setCustomFields(customFields);
     }
 
-    updatePoLineOrderFormat(mosaicOrder, poLine);
     physicalMapper.updatePoLinePhysical(mosaicOrder, poLine);
     electronicMapper.updatePoLineEResource(mosaicOrder, poLine);
     updatePoLineCost(mosaicOrder, poLine);
@@ -149,14 +99,6 @@ public class MosaicPoLineConverter {
     order.setPoLines(List.of(poLine));
   }
 
-  private void updatePoLineOrderFormat(MosaicOrder mosaicOrder, PoLine poLine) {
-    if (ObjectUtils.isEmpty(mosaicOrder.getFormat())) {
-      return;
-    }
-    var orderFormat = mosaicOrder.getFormat().name();
-    poLine.setOrderFormat(OrderFormat.valueOf(orderFormat));
-  }
-
   private void updatePoLineCost(MosaicOrder mosaicOrder, PoLine poLine) {
     if (ObjectUtils.isEmpty(mosaicOrder.getListUnitPrice()) && ObjectUtils.isEmpty(mosaicOrder.getListUnitPriceElectronic())) {
       return;
@@ -244,7 +186,7 @@ public class MosaicPoLineConverter {
     for (var mosaicRefNumber : mosaicOrder.getReferenceNumbers()) {
       var referenceNumber = new ReferenceNumberItem();
       referenceNumber.setRefNumber(mosaicRefNumber.getRefNumber());
-      referenceNumber.setRefNumberType(ReferenceNumberItem.RefNumberType.fromValue(mosaicRefNumber.getRefNumberType().toString()));
+      referenceNumber.setRefNumberType(REF_NUMBER_TYPE.map(mosaicRefNumber.getRefNumberType()));
       referenceNumbers.add(referenceNumber);
     }
 
@@ -280,7 +222,7 @@ public class MosaicPoLineConverter {
         new FundDistribution()
           .withFundId(mosaicFund.getFundId())
           .withCode(mosaicFund.getCode())
-          .withDistributionType(FundDistribution.DistributionType.fromValue(mosaicFund.getDistributionType().toString()))
+          .withDistributionType(DISTRIBUTION_TYPE.map(mosaicFund.getDistributionType()))
           .withValue(mosaicFund.getValue())
           .withExpenseClassId(mosaicFund.getExpenseClassId()))
       .toList();
@@ -0,0 +1,45 @@
+package org.folio.mosaic.service;
+
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.liquibase.FolioSpringLiquibase;
+import org.folio.spring.service.PrepareSystemUserService;
+import org.folio.spring.service.TenantService;
+import org.folio.tenant.domain.dto.TenantAttributes;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Tenant lifecycle of the module, prepares the system user running the background work of the tenant, syncs
+ * the order template mirror and warms up the tenant once its schema is created or upgraded.
+ */
+@Log4j2
+@Primary
+@Service
+public class MosaicTenantService extends TenantService {
+
+  private final PrepareSystemUserService prepareSystemUserService;
+  private final OrderTemplateMirrorService orderTemplateMirrorService;
+  private final WarmUpService warmUpService;
+
+  public MosaicTenantService(JdbcTemplate jdbcTemplate, FolioExecutionContext context,
+                             FolioSpringLiquibase folioSpringLiquibase, PrepareSystemUserService prepareSystemUserService,
+                             OrderTemplateMirrorService orderTemplateMirrorService, WarmUpService warmUpService) {
+    super(jdbcTemplate, context, folioSpringLiquibase);
+    this.prepareSystemUserService = prepareSystemUserService;
+    this.orderTemplateMirrorService = orderTemplateMirrorService;
+    this.warmUpService = warmUpService;
+  }
+
+  @Override
+  protected void afterTenantUpdate(TenantAttributes tenantAttributes) {
+    log.info("afterTenantUpdate:: Preparing system user of tenant: {}", context.getTenantId());
+    prepareSystemUserService.setupSystemUser();
+    log.info("afterTenantUpdate:: Syncing order templates of tenant: {}", context.getTenantId());
+    orderTemplateMirrorService.syncTenant();
+    log.info("afterTenantUpdate:: Warming up tenant: {}", context.getTenantId());
+    warmUpService.warmUpTenant();
+  }
+}
@@ -0,0 +1,175 @@
+package org.folio.mosaic.service;
+
+import static org.folio.mosaic.domain.entity.MosaicOrderIdempotencyEntity.Status.COMPLETED;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
+import org.folio.mosaic.exception.ResourceAlreadyExistException;
+import org.folio.mosaic.repository.OrderIdempotencyRepository;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Makes order creation idempotent. The outcome of every keyed attempt is stored in the tenant's
+ * schema, so a retried request gets the POL number of the order created by the first attempt.
+ * Duplicates arriving while the first attempt is still running wait for it: in-process through
+ * the attempt's future, across instances by polling the stored outcome.
+ * <br><br>
+ * A failed attempt releases the key only if mod-orders provably did not create the order. Otherwise,
+ * e.g. after a read timeout or a 5xx, the key stays claimed until the lock times out.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderIdempotencyService {
+
+  private final OrderIdempotencyRepository orderIdempotencyRepository;
+  private final OrdersProperties ordersProperties;
+  private final FolioExecutionContext folioExecutionContext;
+
+  private final ConcurrentMap<InFlightKey, CompletableFuture<String>> inFlightAttempts = new ConcurrentHashMap<>();
+
+  /**
+   * Creates the order at most once per key.
+   *
+   * @param idempotencyKey The key identifying the order, e.g. the mosaic order id
+   * @param orderPreparer  Builds the order to create, nothing is sent to mod-orders yet
+   * @param orderCreator   Creates the order in mod-orders
+   * @return POL number of the order created for the key
+   */
+  public String createOrder(String idempotencyKey, Supplier<CompositePurchaseOrder> orderPreparer,
+                            Function<CompositePurchaseOrder, CreatedOrder> orderCreator) {
+    var inFlightKey = new InFlightKey(folioExecutionContext.getTenantId(), idempotencyKey);
+    var attempt = new CompletableFuture<String>();
+    var inFlightAttempt = inFlightAttempts.putIfAbsent(inFlightKey, attempt);
+    if (inFlightAttempt != null) {
+      log.info("createOrder:: Waiting for the in-flight attempt with idempotency key: {}", idempotencyKey);
+      return await(inFlightAttempt);
+    }
+
+    try {
+      var poLineNumber = createOrderOnce(idempotencyKey, orderPreparer, orderCreator);
+      attempt.complete(poLineNumber);
+      return poLineNumber;
+    } catch (RuntimeException e) {
+      attempt.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlightAttempts.remove(inFlightKey, attempt);
+    }
+  }
+
+  private String createOrderOnce(String idempotencyKey, Supplier<CompositePurchaseOrder> orderPreparer,
+                                 Function<CompositePurchaseOrder, CreatedOrder> orderCreator) {
+    var completedPoLineNumber = getCompletedPoLineNumber(idempotencyKey);
+    if (completedPoLineNumber != null) {
+      log.info("createOrderOnce:: Order with idempotency key: {} was already created with POL number: {}",
+        idempotencyKey, completedPoLineNumber);
+      return completedPoLineNumber;
+    }
+
+    var settings = ordersProperties.getIdempotency();
+    if (orderIdempotencyRepository.claim(idempotencyKey, settings.getLockTimeout().toSeconds()) == 0) {
+      return awaitOtherInstance(idempotencyKey, orderPreparer, orderCreator);
+    }
+
+    CompositePurchaseOrder order;
+    try {
+      order = orderPreparer.get();
+    } catch (RuntimeException e) {
+      // Nothing was sent to mod-orders, so a retry with the same key must be able to try again
+      orderIdempotencyRepository.release(idempotencyKey);
+      throw e;
+    }
+
+    CreatedOrder createdOrder;
+    try {
+      createdOrder = orderCreator.apply(order);
+    } catch (RuntimeException e) {
+      if (isRejectedBeforeCreation(e)) {
+        orderIdempotencyRepository.release(idempotencyKey);
+      } else {
+        // The order may have been created (e.g. read timeout, 5xx), the key stays claimed until the lock times out
+        log.warn("createOrderOnce:: Outcome of order with idempotency key: {} is unknown, the key stays claimed for {}",
+          idempotencyKey, settings.getLockTimeout());
+      }
+      throw e;
+    }
+    orderIdempotencyRepository.complete(idempotencyKey, createdOrder.poId(), createdOrder.poLineNumber());
+    return createdOrder.poLineNumber();
+  }
+
+  /**
+   * Calls rejected by the circuit breaker, the bulkhead or the adaptive concurrency limit are never sent,
+   * and a 4xx answer means mod-orders did not create the order.
+   */
+  private static boolean isRejectedBeforeCreation(RuntimeException e) {
+    return e instanceof DownstreamUnavailableException || e instanceof HttpClientErrorException;
+  }
+
+  private String awaitOtherInstance(String idempotencyKey, Supplier<CompositePurchaseOrder> orderPreparer,
+                                    Function<CompositePurchaseOrder, CreatedOrder> orderCreator) {
+    log.info("awaitOtherInstance:: Order with idempotency key: {} is being created by another instance", idempotencyKey);
+    var settings = ordersProperties.getIdempotency();
+    var deadline = System.nanoTime() + settings.getWaitTimeout().toNanos();
+    while (System.nanoTime() < deadline) {
+      sleep(settings.getPollInterval().toMillis());
+      var state = orderIdempotencyRepository.findStateByIdempotencyKey(idempotencyKey);
+      if (state.isEmpty()) {
+        // The other attempt failed and released the key
+        return createOrderOnce(idempotencyKey, orderPreparer, orderCreator);
+      }
+      if (state.get().status() == COMPLETED) {
+        return state.get().poLineNumber();
+      }
+    }
+    log.warn("awaitOtherInstance:: Order with idempotency key: {} did not complete within {}", idempotencyKey,
+      settings.getWaitTimeout());
+    throw new ResourceAlreadyExistException(CompositePurchaseOrder.class, idempotencyKey);
+  }
+
+  private String getCompletedPoLineNumber(String idempotencyKey) {
+    return orderIdempotencyRepository.findStateByIdempotencyKey(idempotencyKey)
+      .filter(state -> state.status() == COMPLETED)
+      .map(OrderIdempotencyRepository.IdempotencyState::poLineNumber)
+      .orElse(null);
+  }
+
+  private static String await(CompletableFuture<String> attempt) {
+    try {
+      return attempt.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the order creation attempt", e);
+    }
+  }
+
+  public record CreatedOrder(String poId, String poLineNumber) {
+  }
+
+  private record InFlightKey(String tenantId, String idempotencyKey) {
+  }
+}
@@ -0,0 +1,164 @@
+package org.folio.mosaic.service;
+
+import static org.folio.mosaic.config.AsyncConfiguration.ORDER_JOB_EXECUTOR;
+import static org.folio.mosaic.domain.entity.MosaicOrderJobEntity.Status.COMPLETED;
+import static org.folio.mosaic.domain.entity.MosaicOrderJobEntity.Status.FAILED;
+import static org.folio.mosaic.domain.entity.MosaicOrderJobEntity.Status.IN_PROGRESS;
+import static org.folio.mosaic.domain.entity.MosaicOrderJobEntity.Status.PENDING;
+import static org.folio.mosaic.util.FolioContextUtils.snapshot;
+import static org.folio.mosaic.util.FolioContextUtils.withContext;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.domain.dto.MosaicOrderJob;
+import org.folio.mosaic.domain.entity.MosaicOrderJobEntity;
+import org.folio.mosaic.domain.mapper.MosaicOrderJobMapper;
+import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.repository.OrderJobRepository;
+import org.folio.rest.acq.model.mosaic.MosaicOrderRequest;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Asynchronous order creation. Order requests are stored as jobs in the tenant's schema and
+ * processed by a pool of workers running within the FolioExecutionContext of the submitting request.
+ * Each dispatched worker drains the pending jobs of its tenant, so jobs left pending (e.g. when the
+ * pool was saturated) are picked up by the next worker of that tenant.
+ * <br><br>
+ * Every instance also resumes the jobs of all enabled tenants periodically, so jobs left pending by a restart
+ * are processed without waiting for the next submission. Jobs left in progress by a crashed instance are
+ * put back to pending once they are stale. Their orders are created with an idempotency key, the mosaic
+ * order id or else the job id, so a reclaimed job does not create its order twice.
+ */
+@Log4j2
+@Service
+public class OrderJobService {
+
+  private final OrderJobRepository orderJobRepository;
+  private final MosaicOrderJobMapper orderJobMapper;
+  private final OrdersService ordersService;
+  private final FolioExecutionContext folioExecutionContext;
+  private final EnabledTenantsService enabledTenantsService;
+  private final OrdersProperties ordersProperties;
+  private final ObjectMapper objectMapper;
+  private final TaskExecutor orderJobExecutor;
+
+  public OrderJobService(OrderJobRepository orderJobRepository, MosaicOrderJobMapper orderJobMapper,
+                         OrdersService ordersService, FolioExecutionContext folioExecutionContext,
+                         EnabledTenantsService enabledTenantsService, OrdersProperties ordersProperties,
+                         ObjectMapper objectMapper, @Qualifier(ORDER_JOB_EXECUTOR) TaskExecutor orderJobExecutor) {
+    this.orderJobRepository = orderJobRepository;
+    this.orderJobMapper = orderJobMapper;
+    this.ordersService = ordersService;
+    this.folioExecutionContext = folioExecutionContext;
+    this.enabledTenantsService = enabledTenantsService;
+    this.ordersProperties = ordersProperties;
+    this.objectMapper = objectMapper;
+    this.orderJobExecutor = orderJobExecutor;
+  }
+
+  public MosaicOrderJob submitJob(MosaicOrderRequest orderRequest) {
+    var job = new MosaicOrderJobEntity();
+    job.setId(UUID.randomUUID());
+    job.setStatus(PENDING);
+    job.setOrderRequest(objectMapper.writeValueAsString(orderRequest));
+    var savedJob = orderJobRepository.save(job);
+    log.info("submitJob:: Submitted order job: {} for mosaic order with title: {}", savedJob.getId(),
+      orderRequest.getMosaicOrder().getTitle());
+
+    dispatch();
+    return orderJobMapper.toDto(savedJob);
+  }
+
+  public MosaicOrderJob getJob(UUID jobId) {
+    return orderJobRepository.findById(jobId)
+      .map(orderJobMapper::toDto)
+      .orElseThrow(() -> new ResourceNotFoundException(MosaicOrderJob.class, jobId.toString()));
+  }
+
+  @Scheduled(initialDelayString = "${folio.mosaic.orders.jobs.drain-interval:1m}",
+    fixedDelayString = "${folio.mosaic.orders.jobs.drain-interval:1m}")
+  public void resumeEnabledTenantsJobs() {
+    try {
+      for (var tenant : enabledTenantsService.findEnabledTenants()) {
+        try {
+          enabledTenantsService.runAsTenant(tenant, this::resumeJobs);
+        } catch (RuntimeException e) {
+          log.warn("resumeEnabledTenantsJobs:: Failed to resume jobs of tenant: {}, reason: {}", tenant, e.getMessage());
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("resumeEnabledTenantsJobs:: Failed to find the enabled tenants to resume jobs of: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Reclaims the stale jobs of the tenant of the current execution context, and dispatches a worker
+   * if any of its jobs is pending.
+   */
+  public void resumeJobs() {
+    try {
+      var reclaimed = orderJobRepository.reclaimStaleJobs(ordersProperties.getJobs().getStaleAfter().toSeconds());
+      if (reclaimed > 0) {
+        log.warn("resumeJobs:: Reclaimed {} order jobs abandoned in progress", reclaimed);
+      }
+      if (orderJobRepository.existsByStatus(PENDING)) {
+        dispatch();
+      }
+    } catch (RuntimeException e) {
+      log.warn("resumeJobs:: Failed to resume the order jobs of tenant: {}, reason: {}",
+        folioExecutionContext.getTenantId(), e.getMessage());
+    }
+  }
+
+  private void dispatch() {
+    try {
+      orderJobExecutor.execute(withContext(snapshot(folioExecutionContext), this::drainPendingJobs));
+    } catch (TaskRejectedException e) {
+      log.warn("dispatch:: All order job workers are busy, the job stays pending until a worker is free");
+    }
+  }
+
+  void drainPendingJobs() {
+    Optional<MosaicOrderJobEntity> job;
+    while ((job = claimNextPendingJob()).isPresent()) {
+      processJob(job.get());
+    }
+  }
+
+  private Optional<MosaicOrderJobEntity> claimNextPendingJob() {
+    Optional<MosaicOrderJobEntity> job;
+    while ((job = orderJobRepository.findFirstByStatusOrderByCreatedDateAsc(PENDING)).isPresent()) {
+      if (orderJobRepository.updateStatus(job.get().getId(), PENDING, IN_PROGRESS) == 1) {
+        return job;
+      }
+    }
+    return Optional.empty();
+  }
+
+  private void processJob(MosaicOrderJobEntity job) {
+    log.info("processJob:: Processing order job: {}", job.getId());
+    try {
+      var orderRequest = objectMapper.readValue(job.getOrderRequest(), MosaicOrderRequest.class);
+      var idempotencyKey = StringUtils.isBlank(orderRequest.getMosaicOrder().getId()) ? job.getId().toString() : null;
+      job.setPoLineNumber(ordersService.createOrder(orderRequest, idempotencyKey));
+      job.setStatus(COMPLETED);
+      log.info("processJob:: Order job: {} completed with POL number: {}", job.getId(), job.getPoLineNumber());
+    } catch (Exception e) {
+      log.error("processJob:: Order job: {} failed", job.getId(), e);
+      job.setErrorMessage(e.getMessage());
+      job.setStatus(FAILED);
+    }
+    orderJobRepository.save(job);
+  }
+}
@@ -0,0 +1,134 @@
+package org.folio.mosaic.service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.exception.TooManyRequestsException;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Per tenant token bucket limiting the rate of orders, so that the bulk export of a single tenant cannot saturate
+ * the shared mod-orders instance and starve the other tenants.
+ * <br><br>
+ * The bucket of every tenant refills at the configured rate up to the burst size, and each order withdraws a token.
+ * A batch larger than the burst size passes once the bucket is full and leaves it in debt, so that the tenant
+ * is throttled until the rate has paid for every order of the batch.
+ * The available tokens and the number of throttled requests are exposed per tenant.
+ */
+@Log4j2
+@Component
+public class OrderRateLimiter {
+
+  public static final String TOKENS_METRIC = "mosaic.orders.rate_limit.tokens";
+  public static final String THROTTLED_METRIC = "mosaic.orders.rate_limit.throttled";
+
+  private static final String UNKNOWN = "unknown";
+
+  private final FolioExecutionContext folioExecutionContext;
+  private final OrdersProperties.RateLimit settings;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, TenantLimiter> limiters = new ConcurrentHashMap<>();
+
+  public OrderRateLimiter(FolioExecutionContext folioExecutionContext, OrdersProperties ordersProperties,
+                          MeterRegistry meterRegistry) {
+    this.folioExecutionContext = folioExecutionContext;
+    this.settings = ordersProperties.getRateLimit();
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Withdraws a token per order from the bucket of the current tenant. Requests with more orders than
+   * the burst size need a full bucket to pass and withdraw the remaining tokens as debt.
+   *
+   * @param orders number of orders of the request
+   * @throws TooManyRequestsException if the bucket does not hold enough tokens
+   */
+  public void acquire(int orders) {
+    if (!settings.isEnabled()) {
+      return;
+    }
+    var tenantId = Objects.requireNonNullElse(folioExecutionContext.getTenantId(), UNKNOWN);
+    var limiter = limiters.computeIfAbsent(tenantId, this::newLimiter);
+    var waitNanos = limiter.bucket().tryAcquire(orders);
+    if (waitNanos > 0) {
+      limiter.throttled().increment();
+      throw new TooManyRequestsException(tenantId, Duration.ofSeconds(Math.max(1, divideUp(waitNanos))));
+    }
+  }
+
+  private TenantLimiter newLimiter(String tenantId) {
+    log.info("newLimiter:: Limiting orders of tenant: {} to {} per second with burst: {}", tenantId,
+      settings.getRate(), settings.getBurst());
+    var bucket = new TokenBucket(settings.getRate(), settings.getBurst());
+    Gauge.builder(TOKENS_METRIC, bucket, TokenBucket::availableTokens)
+      .description("Tokens available in the order rate limit bucket of the tenant")
+      .tag("tenant", tenantId)
+      .strongReference(true)
+      .register(meterRegistry);
+    var throttled = Counter.builder(THROTTLED_METRIC)
+      .description("Order requests rejected by the rate limit of the tenant")
+      .tag("tenant", tenantId)
+      .register(meterRegistry);
+    return new TenantLimiter(bucket, throttled);
+  }
+
+  private static long divideUp(long nanos) {
+    var second = TimeUnit.SECONDS.toNanos(1);
+    return (nanos + second - 1) / second;
+  }
+
+  private record TenantLimiter(TokenBucket bucket, Counter throttled) {
+  }
+
+  private static final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double capacity;
+    private double tokens;
+    private long refilledAt;
+
+    private TokenBucket(double ratePerSecond, int capacity) {
+      this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+      this.capacity = capacity;
+      this.tokens = capacity;
+      this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Withdraws all permits once the bucket holds them, or is full for more permits than it can hold,
+     * the tokens going negative in the latter case.
+     *
+     * @return 0 if the tokens were withdrawn, otherwise the nanos until the bucket holds enough of them
+     */
+    synchronized long tryAcquire(int permits) {
+      refill();
+      var required = Math.min(permits, capacity);
+      if (tokens >= required) {
+        tokens -= permits;
+        return 0;
+      }
+      return (long) Math.ceil((required - tokens) / tokensPerNano);
+    }
+
+    synchronized double availableTokens() {
+      refill();
+      return tokens;
+    }
+
+    private void refill() {
+      var now = System.nanoTime();
+      tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+      refilledAt = now;
+    }
+  }
+}
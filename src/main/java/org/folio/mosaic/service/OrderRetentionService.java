@@ -0,0 +1,57 @@
+package org.folio.mosaic.service;
+
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.repository.OrderIdempotencyRepository;
+import org.folio.mosaic.repository.OrderJobRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Deletes the idempotency keys and the finished order jobs of all enabled tenants once they are older than their
+ * retention, so both tables do not grow with every order created. Running on every instance is harmless,
+ * the deletes of concurrent runs do not conflict.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderRetentionService {
+
+  private final OrderIdempotencyRepository orderIdempotencyRepository;
+  private final OrderJobRepository orderJobRepository;
+  private final EnabledTenantsService enabledTenantsService;
+  private final OrdersProperties ordersProperties;
+  private final FolioExecutionContext folioExecutionContext;
+
+  @Scheduled(initialDelayString = "${folio.mosaic.orders.retention.cleanup-interval:1h}",
+    fixedDelayString = "${folio.mosaic.orders.retention.cleanup-interval:1h}")
+  public void deleteExpiredOfEnabledTenants() {
+    try {
+      for (var tenant : enabledTenantsService.findEnabledTenants()) {
+        try {
+          enabledTenantsService.runAsTenant(tenant, this::deleteExpired);
+        } catch (RuntimeException e) {
+          log.warn("deleteExpiredOfEnabledTenants:: Failed to delete expired orders data of tenant: {}, reason: {}",
+            tenant, e.getMessage());
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("deleteExpiredOfEnabledTenants:: Failed to find the enabled tenants to delete expired orders data of: {}",
+        e.getMessage());
+    }
+  }
+
+  /**
+   * Deletes the expired idempotency keys and order jobs of the tenant of the current execution context.
+   */
+  public void deleteExpired() {
+    var retention = ordersProperties.getRetention();
+    var keys = orderIdempotencyRepository.deleteExpired(retention.getIdempotencyKeys().toSeconds());
+    var jobs = orderJobRepository.deleteExpiredJobs(retention.getJobs().toSeconds());
+    log.info("deleteExpired:: Deleted {} idempotency keys and {} order jobs of tenant: {}", keys, jobs,
+      folioExecutionContext.getTenantId());
+  }
+}
@@ -0,0 +1,82 @@
+package org.folio.mosaic.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.mosaic.cache.TemplateCodeIndexCache;
+import org.folio.mosaic.client.OrdersClient;
+import org.folio.mosaic.util.UuidUtils;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lets orders refer to their template by templateCode instead of id. Codes are resolved through
+ * a per tenant index of all templates, so resolving a code does not query mod-orders per order.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderTemplateCodeService {
+
+  private static final String ALL_TEMPLATES_QUERY = "cql.allRecords=1";
+  private static final int TEMPLATES_LIMIT = 1000;
+  private static final String ORDER_TEMPLATES = "orderTemplates";
+  private static final String ID = "id";
+  private static final String TEMPLATE_CODE = "templateCode";
+
+  private final OrdersClient ordersClient;
+  private final TemplateCodeIndexCache templateCodeIndexCache;
+
+  /**
+   * Resolves the template reference of a request, which is either the id or the templateCode of the template.
+   * A reference that is neither a UUID nor a known code is returned as is, so it fails the template lookup.
+   *
+   * @param idOrCode id or templateCode of the order template
+   * @return id of the order template
+   */
+  public String resolveTemplateId(String idOrCode) {
+    if (UuidUtils.isUuid(idOrCode)) {
+      return idOrCode;
+    }
+    var templateId = templateCodeIndexCache.get(this::fetchIndex).get(idOrCode);
+    if (templateId == null) {
+      log.info("resolveTemplateId:: No order template with templateCode: {}", idOrCode);
+      return idOrCode;
+    }
+    log.debug("resolveTemplateId:: Resolved templateCode: {} to order template: {}", idOrCode, templateId);
+    return templateId;
+  }
+
+  /**
+   * Drops the index of the current tenant, so the next code is resolved against the current templates.
+   */
+  public void invalidate() {
+    templateCodeIndexCache.invalidate();
+  }
+
+  private Map<String, String> fetchIndex() {
+    log.debug("fetchIndex:: Fetching order template codes from mod-orders");
+    var index = new HashMap<String, String>();
+    var offset = 0;
+    int pageSize;
+    do {
+      var templates = ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, offset, TEMPLATES_LIMIT).path(ORDER_TEMPLATES);
+      pageSize = templates.size();
+      for (var template : templates) {
+        var code = template.path(TEMPLATE_CODE);
+        if (code.isString() && StringUtils.isNotBlank(code.asString())) {
+          var previous = index.putIfAbsent(code.asString(), template.path(ID).asString());
+          if (previous != null) {
+            log.warn("fetchIndex:: templateCode: {} is used by several order templates, resolving it to: {}",
+              code.asString(), previous);
+          }
+        }
+      }
+      offset += pageSize;
+    } while (pageSize == TEMPLATES_LIMIT);
+    return Map.copyOf(index);
+  }
+}
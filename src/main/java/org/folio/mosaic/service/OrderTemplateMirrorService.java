@@ -0,0 +1,228 @@
+package org.folio.mosaic.service;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.folio.mosaic.cache.OrderTemplateCache;
+import org.folio.mosaic.cache.TemplateCodeIndexCache;
+import org.folio.mosaic.client.OrdersClient;
+import org.folio.mosaic.config.TemplateMirrorProperties;
+import org.folio.mosaic.repository.OrderTemplateRepository;
+import org.folio.mosaic.util.UuidUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Local copy of the tenant's order templates, so that templates are still resolved while mod-orders cannot be
+ * reached, also after a restart or on a new instance. mod-orders stays the source of truth whenever it answers.
+ * <br><br>
+ * Every instance syncs all enabled tenants in the background: incrementally from the latest
+ * <code>metadata.updatedDate</code> seen by its own syncs, and in full from time to time to drop deleted templates.
+ * Deletes are skipped if a full sync could not walk all templates.
+ * The watermark is kept apart from the mirrored rows, as the write-throughs may store templates newer than
+ * changes the sync has not caught up with yet.
+ * Changed templates are evicted from the local caches. Templates fetched from or created in mod-orders
+ * in between are written through. Mirror failures are logged and never fail a request.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class OrderTemplateMirrorService {
+
+  private static final String ORDER_TEMPLATES = "orderTemplates";
+  private static final String ID = "id";
+  private static final String UPDATED_DATE_POINTER = "/metadata/updatedDate";
+  private static final String SORT_BY_UPDATED_DATE_AND_ID = " sortBy metadata.updatedDate/sort.ascending id/sort.ascending";
+  private static final String ALL_TEMPLATES_QUERY = "cql.allRecords=1";
+  private static final String UPDATED_SINCE_QUERY = "metadata.updatedDate>=\"%s\"";
+  private static final String NEXT_PAGE_QUERY =
+    "(%1$s) and (metadata.updatedDate>\"%2$s\" or (metadata.updatedDate>=\"%2$s\" and id>\"%3$s\"))";
+  private static final DateTimeFormatter FOLIO_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSxxx");
+
+  private final OrderTemplateRepository orderTemplateRepository;
+  private final OrdersClient ordersClient;
+  private final OrderTemplateCache orderTemplateCache;
+  private final TemplateCodeIndexCache templateCodeIndexCache;
+  private final EnabledTenantsService enabledTenantsService;
+  private final TemplateMirrorProperties properties;
+  private final FolioExecutionContext folioExecutionContext;
+  private final ObjectMapper objectMapper;
+
+  private final Map<String, Instant> lastFullSyncs = new ConcurrentHashMap<>();
+  private final Map<String, OffsetDateTime> watermarks = new ConcurrentHashMap<>();
+
+  /**
+   * @param templateId id of the order template
+   * @return the mirrored template, or null if it is not mirrored
+   */
+  public JsonNode find(String templateId) {
+    var id = UuidUtils.toUuid(templateId);
+    if (!properties.isEnabled() || id == null) {
+      return null;
+    }
+    try {
+      return orderTemplateRepository.findTemplateById(id)
+        .map(objectMapper::readTree)
+        .orElse(null);
+    } catch (RuntimeException e) {
+      log.warn("find:: Failed to read mirrored order template: {}, reason: {}", templateId, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Writes the template through to the mirror, templates without a UUID id are skipped.
+   */
+  public void save(JsonNode template) {
+    var id = UuidUtils.toUuid(template.path(ID).asString());
+    if (!properties.isEnabled() || id == null) {
+      return;
+    }
+    try {
+      orderTemplateRepository.upsert(id, objectMapper.writeValueAsString(template), updatedDate(template));
+    } catch (RuntimeException e) {
+      log.warn("save:: Failed to mirror order template: {}, reason: {}", id, e.getMessage());
+    }
+  }
+
+  @Scheduled(initialDelayString = "${folio.mosaic.template-mirror.sync-interval:5m}",
+    fixedDelayString = "${folio.mosaic.template-mirror.sync-interval:5m}")
+  public void syncEnabledTenants() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    try {
+      for (var tenant : enabledTenantsService.findEnabledTenants()) {
+        try {
+          enabledTenantsService.runAsTenant(tenant, this::syncTenant);
+        } catch (RuntimeException e) {
+          log.warn("syncEnabledTenants:: Failed to sync order templates of tenant: {}, reason: {}", tenant, e.getMessage());
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("syncEnabledTenants:: Failed to find the enabled tenants to sync: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Syncs the order templates of the tenant of the current execution context.
+   */
+  public void syncTenant() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    var tenant = folioExecutionContext.getTenantId();
+    var start = System.nanoTime();
+    try {
+      var lastFullSync = lastFullSyncs.get(tenant);
+      var fullSync = lastFullSync == null
+        || lastFullSync.plus(properties.getFullSyncInterval()).isBefore(Instant.now());
+      var since = fullSync ? null : watermarks.get(tenant);
+      var query = since == null ? ALL_TEMPLATES_QUERY
+        : UPDATED_SINCE_QUERY.formatted(FOLIO_DATE_FORMAT.format(since.withOffsetSameInstant(ZoneOffset.UTC)));
+
+      var seenIds = new HashSet<UUID>();
+      var walk = syncPages(tenant, query, seenIds);
+      var changed = walk.changed();
+      if (since == null && walk.complete()) {
+        var deleted = seenIds.isEmpty() ? deleteAll() : orderTemplateRepository.deleteByIdNotIn(seenIds);
+        changed += deleted;
+        lastFullSyncs.put(tenant, Instant.now());
+      } else if (since == null) {
+        log.warn("syncTenant:: Full sync of tenant: {} could not walk all order templates, none is deleted", tenant);
+      }
+      if (changed > 0) {
+        templateCodeIndexCache.invalidate();
+      }
+      log.info("syncTenant:: Synced {} order templates, {} changed, full sync: {}, in {} ms", seenIds.size(),
+        changed, since == null, (System.nanoTime() - start) / 1_000_000);
+    } catch (RuntimeException e) {
+      log.warn("syncTenant:: Failed to sync order templates of tenant: {}, reason: {}", tenant, e.getMessage());
+    }
+  }
+
+  /**
+   * Walks the templates page by page with keyset paging over <code>metadata.updatedDate</code> and id: every page
+   * starts after the last template of the previous one, so templates updated or deleted meanwhile do not shift
+   * the others out of the walk, as they would with offsets. The watermark of the tenant advances with the pages.
+   * <br><br>
+   * The walk is incomplete if it cannot continue after the last template of a full page, e.g. as it has no
+   * <code>metadata.updatedDate</code>, the templates after it are not seen then.
+   */
+  private PageWalk syncPages(String tenant, String query, Set<UUID> seenIds) {
+    var changed = 0;
+    var pageQuery = query;
+    while (true) {
+      var templates = ordersClient.getOrderTemplates(pageQuery + SORT_BY_UPDATED_DATE_AND_ID, 0,
+        properties.getPageSize()).path(ORDER_TEMPLATES);
+      for (var template : templates) {
+        var id = UuidUtils.toUuid(template.path(ID).asString());
+        if (id == null) {
+          continue;
+        }
+        seenIds.add(id);
+        var updatedDate = updatedDate(template);
+        if (orderTemplateRepository.upsert(id, objectMapper.writeValueAsString(template), updatedDate) > 0) {
+          orderTemplateCache.invalidate(id.toString());
+          changed++;
+        }
+        if (updatedDate != null) {
+          watermarks.merge(tenant, updatedDate, (current, next) -> next.isAfter(current) ? next : current);
+        }
+      }
+      if (templates.size() < properties.getPageSize()) {
+        return new PageWalk(changed, true);
+      }
+
+      var last = templates.get(templates.size() - 1);
+      var lastUpdatedDate = last.at(UPDATED_DATE_POINTER);
+      var lastId = last.path(ID).asString();
+      if (!lastUpdatedDate.isString() || !UuidUtils.isUuid(lastId)) {
+        log.warn("syncPages:: Cannot continue the sync after order template: {} without updatedDate or UUID id", lastId);
+        return new PageWalk(changed, false);
+      }
+      var nextPageQuery = NEXT_PAGE_QUERY.formatted(query, lastUpdatedDate.asString(), lastId);
+      if (nextPageQuery.equals(pageQuery)) {
+        log.warn("syncPages:: Page after order template: {} did not advance, the sync stops", lastId);
+        return new PageWalk(changed, false);
+      }
+      pageQuery = nextPageQuery;
+    }
+  }
+
+  private int deleteAll() {
+    var count = (int) orderTemplateRepository.count();
+    orderTemplateRepository.deleteAllInBatch();
+    return count;
+  }
+
+  private static OffsetDateTime updatedDate(JsonNode template) {
+    var updatedDate = template.at(UPDATED_DATE_POINTER);
+    if (!updatedDate.isString()) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(updatedDate.asString());
+    } catch (DateTimeParseException e) {
+      log.debug("updatedDate:: Unparsable updatedDate: {} of order template: {}", updatedDate, template.path(ID));
+      return null;
+    }
+  }
+
+  private record PageWalk(int changed, boolean complete) {
+  }
+}
@@ -0,0 +1,212 @@
+package org.folio.mosaic.service;
+
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orders.Cost;
+import org.folio.rest.acq.model.orders.Eresource;
+import org.folio.rest.acq.model.orders.Ongoing;
+import org.folio.rest.acq.model.orders.Physical;
+import org.folio.rest.acq.model.orders.PoLine;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * An order template compiled once into an immutable prototype, which can be shared by concurrent
+ * requests and cloned into a fresh CompositePurchaseOrder with a single PoLine for every order.
+ * <br><br>
+ * The template objects are never handed out. Their collections are frozen and shared by the clones,
+ * so overrides must replace a collection instead of modifying it (copy-on-write). The nested objects
+ * that overrides modify in place (cost, physical and eresource) are copied for every clone.
+ */
+public final class OrderTemplatePrototype {
+
+  private final CompositePurchaseOrder orderTemplate;
+  private final PoLine poLineTemplate;
+  private final JsonNode cost;
+  private final JsonNode physical;
+  private final JsonNode eresource;
+  private final ObjectMapper objectMapper;
+
+  private OrderTemplatePrototype(CompositePurchaseOrder orderTemplate, PoLine poLineTemplate, ObjectMapper objectMapper) {
+    this.orderTemplate = freeze(orderTemplate);
+    this.poLineTemplate = freeze(poLineTemplate);
+    this.cost = toTree(poLineTemplate.getCost(), objectMapper);
+    this.physical = toTree(poLineTemplate.getPhysical(), objectMapper);
+    this.eresource = toTree(poLineTemplate.getEresource(), objectMapper);
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Compiles the order template as returned by mod-orders, which holds both the order and the poLine fields.
+   */
+  public static OrderTemplatePrototype compile(JsonNode template, ObjectMapper objectMapper) {
+    return new OrderTemplatePrototype(objectMapper.treeToValue(template, CompositePurchaseOrder.class),
+      objectMapper.treeToValue(template, PoLine.class), objectMapper);
+  }
+
+  /**
+   * Compiles the order template from its order and poLine halves, which are copied and left untouched.
+   */
+  public static OrderTemplatePrototype compile(Pair<CompositePurchaseOrder, PoLine> template, ObjectMapper objectMapper) {
+    return new OrderTemplatePrototype(deepCopy(template.getKey(), CompositePurchaseOrder.class, objectMapper),
+      deepCopy(template.getValue(), PoLine.class, objectMapper), objectMapper);
+  }
+
+  public String getTemplateId() {
+    return orderTemplate.getId();
+  }
+
+  /**
+   * @return Mutable copies of the order and poLine halves of the template
+   */
+  public Pair<CompositePurchaseOrder, PoLine> toTemplatePair() {
+    return Pair.of(deepCopy(orderTemplate, CompositePurchaseOrder.class, objectMapper),
+      deepCopy(poLineTemplate, PoLine.class, objectMapper));
+  }
+
+  /**
+   * Creates a new order with a new PoLine from the template
+   *
+   * @return A CompositePurchaseOrder object with an included PoLine
+   */
+  public CompositePurchaseOrder newOrder() {
+    var orderType = ObjectUtils.isNotEmpty(orderTemplate.getOrderType())
+      ? orderTemplate.getOrderType() : CompositePurchaseOrder.OrderType.ONE_TIME;
+    var ongoing = orderTemplate.getOngoing();
+    if (orderType == CompositePurchaseOrder.OrderType.ONGOING && ObjectUtils.isEmpty(ongoing)) {
+      ongoing = new Ongoing();
+    }
+
+    return new CompositePurchaseOrder()
+      .withId(UUID.randomUUID().toString())
+      .withApproved(orderTemplate.getApproved())
+      .withApprovedById(orderTemplate.getApprovedById())
+      .withApprovalDate(orderTemplate.getApprovalDate())
+      .withAssignedTo(orderTemplate.getAssignedTo())
+      .withBillTo(orderTemplate.getBillTo())
+      .withCloseReason(orderTemplate.getCloseReason())
+      .withDateOrdered(orderTemplate.getDateOrdered())
+      .withManualPo(orderTemplate.getManualPo())
+      .withNotes(orderTemplate.getNotes())
+      .withPoNumberPrefix(orderTemplate.getPoNumberPrefix())
+      .withPoNumberSuffix(orderTemplate.getPoNumberSuffix())
+      .withOrderType(orderType)
+      .withReEncumber(orderTemplate.getReEncumber())
+      .withOngoing(ongoing)
+      .withShipTo(orderTemplate.getShipTo())
+      .withTemplate(orderTemplate.getId())
+      .withTotalCredited(orderTemplate.getTotalCredited())
+      .withTotalEstimatedPrice(orderTemplate.getTotalEstimatedPrice())
+      .withTotalEncumbered(orderTemplate.getTotalEncumbered())
+      .withTotalExpended(orderTemplate.getTotalExpended())
+      .withTotalItems(orderTemplate.getTotalItems())
+      .withVendor(orderTemplate.getVendor())
+      .withWorkflowStatus(orderTemplate.getWorkflowStatus())
+      .withPoLines(new ArrayList<>(singletonList(newPoLine())))
+      .withAcqUnitIds(orderTemplate.getAcqUnitIds())
+      .withNextPolNumber(orderTemplate.getNextPolNumber())
+      .withTags(orderTemplate.getTags())
+      .withCustomFields(orderTemplate.getCustomFields());
+  }
+
+  /**
+   * Creates a new PoLine from the template
+   *
+   * @return A PoLine object
+   */
+  public PoLine newPoLine() {
+    return new PoLine()
+      .withId(UUID.randomUUID().toString())
+      .withEdition(poLineTemplate.getEdition())
+      .withCheckinItems(poLineTemplate.getCheckinItems())
+      .withAgreementId(poLineTemplate.getAgreementId())
+      .withAcquisitionMethod(poLineTemplate.getAcquisitionMethod())
+      .withAutomaticExport(poLineTemplate.getAutomaticExport())
+      .withCancellationRestriction(poLineTemplate.getCancellationRestriction())
+      .withCancellationRestrictionNote(poLineTemplate.getCancellationRestrictionNote())
+      .withClaims(poLineTemplate.getClaims())
+      .withClaimingActive(poLineTemplate.getClaimingActive())
+      .withClaimingInterval(poLineTemplate.getClaimingInterval())
+      .withCollection(poLineTemplate.getCollection())
+      .withContributors(poLineTemplate.getContributors())
+      .withCost(copy(cost, Cost.class))
+      .withDescription(poLineTemplate.getDescription())
+      .withDetails(poLineTemplate.getDetails())
+      .withDonor(poLineTemplate.getDonor())
+      .withDonorOrganizationIds(poLineTemplate.getDonorOrganizationIds())
+      .withEresource(copy(eresource, Eresource.class))
+      .withFundDistribution(poLineTemplate.getFundDistribution())
+      .withInstanceId(poLineTemplate.getInstanceId())
+      .withSuppressInstanceFromDiscovery(poLineTemplate.getSuppressInstanceFromDiscovery())
+      .withIsPackage(poLineTemplate.getIsPackage())
+      .withLocations(poLineTemplate.getLocations())
+      .withSearchLocationIds(poLineTemplate.getSearchLocationIds())
+      .withLastEDIExportDate(poLineTemplate.getLastEDIExportDate())
+      .withOrderFormat(poLineTemplate.getOrderFormat())
+      .withPackagePoLineId(poLineTemplate.getPackagePoLineId())
+      .withPaymentStatus(poLineTemplate.getPaymentStatus())
+      .withPhysical(copy(physical, Physical.class))
+      .withPoLineDescription(poLineTemplate.getPoLineDescription())
+      .withPublicationDate(poLineTemplate.getPublicationDate())
+      .withPublisher(poLineTemplate.getPublisher())
+      .withReceiptDate(poLineTemplate.getReceiptDate())
+      .withReceiptStatus(poLineTemplate.getReceiptStatus())
+      .withRenewalNote(poLineTemplate.getRenewalNote())
+      .withRequester(poLineTemplate.getRequester())
+      .withRush(poLineTemplate.getRush())
+      .withSelector(poLineTemplate.getSelector())
+      .withSource(PoLine.Source.API)
+      .withTags(poLineTemplate.getTags())
+      .withTitleOrPackage(poLineTemplate.getTitleOrPackage())
+      .withVendorDetail(poLineTemplate.getVendorDetail())
+      .withCustomFields(poLineTemplate.getCustomFields());
+  }
+
+  private <T> T copy(JsonNode value, Class<T> type) {
+    return value != null ? objectMapper.treeToValue(value, type) : null;
+  }
+
+  private static <T> T deepCopy(T value, Class<T> type, ObjectMapper objectMapper) {
+    return objectMapper.treeToValue(objectMapper.valueToTree(value), type);
+  }
+
+  private static JsonNode toTree(Object value, ObjectMapper objectMapper) {
+    return value != null ? objectMapper.valueToTree(value) : null;
+  }
+
+  private static CompositePurchaseOrder freeze(CompositePurchaseOrder order) {
+    order.setAcqUnitIds(freeze(order.getAcqUnitIds()));
+    order.setNotes(freeze(order.getNotes()));
+    order.setPoLines(freeze(order.getPoLines()));
+    if (order.getTags() != null) {
+      order.getTags().setTagList(freeze(order.getTags().getTagList()));
+    }
+    return order;
+  }
+
+  private static PoLine freeze(PoLine poLine) {
+    poLine.setClaims(freeze(poLine.getClaims()));
+    poLine.setContributors(freeze(poLine.getContributors()));
+    poLine.setDonorOrganizationIds(freeze(poLine.getDonorOrganizationIds()));
+    poLine.setFundDistribution(freeze(poLine.getFundDistribution()));
+    poLine.setLocations(freeze(poLine.getLocations()));
+    poLine.setSearchLocationIds(freeze(poLine.getSearchLocationIds()));
+    if (poLine.getTags() != null) {
+      poLine.getTags().setTagList(freeze(poLine.getTags().getTagList()));
+    }
+    return poLine;
+  }
+
+  private static <T> List<T> freeze(List<T> list) {
+    return list != null ? Collections.unmodifiableList(list) : null;
+  }
+}
@@ -1,30 +1,62 @@
 package org.folio.mosaic.service;
 
-import tools.jackson.core.type.TypeReference;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.folio.mosaic.cache.OrderTemplateCache;
 import org.folio.mosaic.client.OrdersClient;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
 import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.metrics.OrderStageMetrics;
+import org.folio.mosaic.service.OrderIdempotencyService.CreatedOrder;
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
 import org.folio.rest.acq.model.mosaic.MosaicOrderRequest;
 import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
 import org.folio.rest.acq.model.orders.OrderTemplate;
 import org.folio.rest.acq.model.orders.PoLine;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
-import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.util.Optional;
+
+import static org.folio.mosaic.metrics.OrderStageMetrics.DEFAULT_TEMPLATE;
+import static org.folio.mosaic.metrics.OrderStageMetrics.Stage.CONFIGURATION;
+import static org.folio.mosaic.metrics.OrderStageMetrics.Stage.CONVERSION;
+import static org.folio.mosaic.metrics.OrderStageMetrics.Stage.ORDER_CREATE;
+import static org.folio.mosaic.metrics.OrderStageMetrics.Stage.TEMPLATE_FETCH;
+import static org.folio.mosaic.metrics.OrderStageMetrics.Stage.TEMPLATE_MIRROR;
+import static org.folio.mosaic.metrics.OrderStageMetrics.Stage.TEMPLATE_PARSE;
 
 @Log4j2
 @Service
 @RequiredArgsConstructor
 public class OrdersService {
 
+  private static final String TEMPLATE_ID_FIELD = "id";
+  private static final String ORDER_ID_FIELD = "id";
+  private static final String PO_LINES_FIELD = "poLines";
+  private static final String PO_LINE_NUMBER_FIELD = "poLineNumber";
+  private static final String IDEMPOTENCY_KEY_PREFIX = "key:";
+  private static final String MOSAIC_ORDER_ID_PREFIX = "order:";
+
   private final OrdersClient ordersClient;
+  private final OrderTemplateCache orderTemplateCache;
+  private final OrderTemplateMirrorService orderTemplateMirror;
+  private final OrderTemplateCodeService orderTemplateCodeService;
+  private final OrganizationService organizationService;
+  private final OrderIdempotencyService orderIdempotencyService;
   private final ConfigurationService configurationService;
+  private final OrderStageMetrics orderStageMetrics;
+  private final CustomFieldsService customFieldsService;
   private final MosaicOrderConverter orderConverter;
   private final ObjectMapper objectMapper;
 
@@ -34,55 +66,237 @@ public class OrdersService {
    * template values, and creating the order in FOLIO.
    */
   public String createOrder(MosaicOrderRequest orderRequest) {
+    return createOrder(orderRequest, null);
+  }
+
+  /**
+   * Creates an order using the new MosaicOrderRequest format, at most once per idempotency key.
+   *
+   * @param orderRequest   The mosaic order request
+   * @param idempotencyKey The key of the request, the mosaic order id is used if it is not provided
+   * @return POL number of the created order
+   */
+  public String createOrder(MosaicOrderRequest orderRequest, String idempotencyKey) {
     var requestTemplateId = orderRequest.getOrderTemplateId();
     var mosaicOrder = orderRequest.getMosaicOrder();
 
     log.info("createOrder:: Creating mosaic order with title: {} and requestTemplateId: {}", mosaicOrder.getTitle(),
       requestTemplateId);
-    var templatePair = getOrderTemplatePair(requestTemplateId);
-    var compositePurchaseOrder = orderConverter.convertToCompositePurchaseOrder(mosaicOrder, templatePair);
-    var createdOrder = ordersClient.createOrder(compositePurchaseOrder);
+    return createOrder(mosaicOrder, resolveTemplateId(requestTemplateId), null, idempotencyKey);
+  }
+
+  /**
+   * Creates an order from the given template, which must already be resolved and compiled.
+   *
+   * @param mosaicOrder The mosaic order from request
+   * @param templateId  The id of the order template to use
+   * @param prototype   The compiled order template
+   * @return POL number of the created order
+   */
+  public String createOrder(MosaicOrder mosaicOrder, String templateId, OrderTemplatePrototype prototype) {
+    return createOrder(mosaicOrder, templateId, prototype, null);
+  }
+
+  /**
+   * @param prototype The compiled order template, it is resolved only once the order is submitted if null,
+   *                  so replayed requests do not need it
+   */
+  private String createOrder(MosaicOrder mosaicOrder, String templateId, OrderTemplatePrototype prototype,
+                             String idempotencyKey) {
+    var key = toIdempotencyKey(idempotencyKey, mosaicOrder.getId());
+    if (key == null) {
+      return submitOrder(prepareOrder(mosaicOrder, templateId, prototype), templateId).poLineNumber();
+    }
+    return orderIdempotencyService.createOrder(key, () -> prepareOrder(mosaicOrder, templateId, prototype),
+      order -> submitOrder(order, templateId));
+  }
 
-    return createdOrder.getPoLines().getFirst().getPoLineNumber();
+  /**
+   * Keys given by the client and mosaic order ids are stored in separate namespaces, so a client key can never
+   * match the id of another mosaic order.
+   *
+   * @return the prefixed key, or null if the order has neither
+   */
+  static String toIdempotencyKey(String idempotencyKey, String mosaicOrderId) {
+    if (StringUtils.isNotBlank(idempotencyKey)) {
+      return IDEMPOTENCY_KEY_PREFIX + idempotencyKey;
+    }
+    return StringUtils.isNotBlank(mosaicOrderId) ? MOSAIC_ORDER_ID_PREFIX + mosaicOrderId : null;
+  }
+
+  /**
+   * Validates and converts the order. With an idempotency key it runs only once the key is claimed, so a replayed
+   * request is answered with the stored outcome without validating the order or looking up its vendor again.
+   */
+  private CompositePurchaseOrder prepareOrder(MosaicOrder mosaicOrder, String templateId,
+                                              OrderTemplatePrototype resolvedPrototype) {
+    customFieldsService.validateCustomFields(mosaicOrder);
+    if (StringUtils.isNotBlank(mosaicOrder.getVendor())) {
+      mosaicOrder.setVendor(organizationService.resolveVendorId(mosaicOrder.getVendor()));
+    }
+    var prototype = resolvedPrototype != null ? resolvedPrototype : getOrderTemplatePrototype(templateId);
+    return orderStageMetrics.record(CONVERSION, templateId,
+      () -> orderConverter.convertToCompositePurchaseOrder(mosaicOrder, prototype));
   }
 
+  private CreatedOrder submitOrder(CompositePurchaseOrder compositePurchaseOrder, String templateId) {
+    return orderStageMetrics.record(ORDER_CREATE, templateId,
+      () -> responseToCreatedOrder(ordersClient.createOrderAsResponse(compositePurchaseOrder)));
+  }
+
+  /**
+   * Streams the created order returned by mod-orders and picks only the order id and the number of the first poLine.
+   * Everything else, e.g. locations and fund distributions of large orders, is skipped token by token without
+   * being bound.
+   */
   @SneakyThrows
-  private Pair<CompositePurchaseOrder, PoLine> getOrderTemplatePair(String requestTemplateId) {
-    var templateId = StringUtils.isNotBlank(requestTemplateId)
-      ? requestTemplateId : configurationService.getConfiguration().getDefaultTemplateId();
+  private CreatedOrder responseToCreatedOrder(InputStream inputStream) {
+    try (inputStream; var parser = objectMapper.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalStateException("Unexpected response of created order");
+      }
+      String poId = null;
+      String poLineNumber = null;
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        var property = parser.currentName();
+        var token = parser.nextToken();
+        if (ORDER_ID_FIELD.equals(property) && token == JsonToken.VALUE_STRING) {
+          poId = parser.getString();
+        } else if (PO_LINES_FIELD.equals(property) && token == JsonToken.START_ARRAY) {
+          poLineNumber = readFirstPoLineNumber(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      if (poLineNumber == null) {
+        throw new IllegalStateException("Created order %s has no poLine number".formatted(poId));
+      }
+      return new CreatedOrder(poId, poLineNumber);
+    }
+  }
+
+  private static String readFirstPoLineNumber(JsonParser parser) {
+    String poLineNumber = null;
+    var token = parser.nextToken();
+    if (token == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+        var property = parser.currentName();
+        if (parser.nextToken() == JsonToken.VALUE_STRING && PO_LINE_NUMBER_FIELD.equals(property)) {
+          poLineNumber = parser.getString();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      token = parser.nextToken();
+    }
+    while (token != JsonToken.END_ARRAY) {
+      parser.skipChildren();
+      token = parser.nextToken();
+    }
+    return poLineNumber;
+  }
+
+  /**
+   * Resolves the template to use for an order: the one from the request, given by id or templateCode,
+   * or the configured default one.
+   */
+  public String resolveTemplateId(String requestTemplateId) {
+    return StringUtils.isNotBlank(requestTemplateId)
+      ? orderTemplateCodeService.resolveTemplateId(requestTemplateId)
+      : orderStageMetrics.record(CONFIGURATION, DEFAULT_TEMPLATE,
+          () -> configurationService.getConfiguration().getDefaultTemplateId());
+  }
 
-    Pair<CompositePurchaseOrder, PoLine> pair = getOrderTemplateById(templateId);
-    if (pair == null) {
-      log.warn("getOrderTemplatePair:: No template or default template was found for mosaicOrder with templateId: {}", templateId);
+  /**
+   * Returns the compiled template, which is shared by concurrent requests and must only be used to clone new orders.
+   */
+  public OrderTemplatePrototype getOrderTemplatePrototype(String templateId) {
+    var prototype = getOrderTemplate(templateId);
+    if (prototype == null) {
+      log.warn("getOrderTemplatePrototype:: No template or default template was found for mosaicOrder with templateId: {}", templateId);
       throw new ResourceNotFoundException(OrderTemplate.class);
     }
-    return pair;
+    return prototype;
   }
 
   public Pair<CompositePurchaseOrder, PoLine> getOrderTemplateById(String templateId) {
-    return ordersClient.getOrderTemplateAsResponse(templateId)
-      .map(this::responseToOrderAndPoLineObjects)
-      .orElse(null);
+    var prototype = getOrderTemplate(templateId);
+    return prototype != null ? prototype.toTemplatePair() : null;
   }
 
   public void createOrderTemplate(OrderTemplate orderTemplate) {
     ordersClient.createOrderTemplate(orderTemplate);
+    if (orderTemplate.getId() != null) {
+      orderTemplateMirror.save(objectMapper.valueToTree(orderTemplate));
+      orderTemplateCache.invalidate(orderTemplate.getId());
+    }
+    orderTemplateCodeService.invalidate();
+  }
+
+  /**
+   * Resolves the template through the cache from mod-orders, with the local mirror as the fallback while mod-orders
+   * cannot be reached. Mirrored templates are not cached, so that mod-orders is tried again by the next request,
+   * and a failed revalidation keeps serving the cached template instead of the mirrored one.
+   */
+  private OrderTemplatePrototype getOrderTemplate(String templateId) {
+    try {
+      return orderTemplateCache.get(templateId, this::fetchOrderTemplate);
+    } catch (DownstreamUnavailableException | ResourceAccessException | HttpServerErrorException e) {
+      var mirrored = orderStageMetrics.record(TEMPLATE_MIRROR, templateId, () -> orderTemplateMirror.find(templateId));
+      if (mirrored == null) {
+        throw e;
+      }
+      log.warn("getOrderTemplate:: mod-orders is unavailable, using the mirrored order template: {}, reason: {}",
+        templateId, e.getMessage());
+      orderStageMetrics.templateResolved(templateId);
+      return orderStageMetrics.record(TEMPLATE_PARSE, templateId,
+        () -> OrderTemplatePrototype.compile(mirrored, objectMapper));
+    }
+  }
+
+  /**
+   * Fetches the template from mod-orders and writes it through to the mirror. A template that mod-orders
+   * answers with 404 is returned as null, so that the cache remembers it as missing.
+   */
+  private OrderTemplatePrototype fetchOrderTemplate(String templateId) {
+    log.debug("fetchOrderTemplate:: Fetching order template: {} from mod-orders", templateId);
+    Optional<InputStream> response;
+    try {
+      response = orderStageMetrics.record(TEMPLATE_FETCH, templateId, () -> ordersClient.getOrderTemplateAsResponse(templateId));
+    } catch (HttpClientErrorException.NotFound e) {
+      log.info("fetchOrderTemplate:: Order template: {} is not found in mod-orders", templateId);
+      return null;
+    }
+    var fetched = response
+      .map(body -> {
+        orderStageMetrics.templateResolved(templateId);
+        return orderStageMetrics.record(TEMPLATE_PARSE, templateId, () -> responseToTemplate(body));
+      })
+      .orElse(null);
+    if (fetched == null) {
+      return null;
+    }
+    orderTemplateMirror.save(fetched.template());
+    return fetched.prototype();
   }
 
+  /**
+   * Parses the template straight from the response stream in a single pass and compiles it. Both the
+   * order and the poLine halves are bound from the resulting tree, so the body is neither buffered
+   * nor tokenized more than once.
+   */
   @SneakyThrows
-  private Pair<CompositePurchaseOrder, PoLine> responseToOrderAndPoLineObjects(InputStream inputStream) {
+  private FetchedTemplate responseToTemplate(InputStream inputStream) {
     try (inputStream) {
-      var byteArrayOutputStream = new ByteArrayOutputStream();
-      inputStream.transferTo(byteArrayOutputStream);
-
-      var byteArray = byteArrayOutputStream.toByteArray();
-      var order = objectMapper.readValue(byteArray, new TypeReference<CompositePurchaseOrder>() {});
-      var poLine = objectMapper.readValue(byteArray, new TypeReference<PoLine>() {});
-      if (order == null || order.getId() == null) {
+      var template = objectMapper.readTree(inputStream);
+      if (template == null || !template.hasNonNull(TEMPLATE_ID_FIELD)) {
         return null;
       }
 
-      return Pair.of(order, poLine);
+      return new FetchedTemplate(template, OrderTemplatePrototype.compile(template, objectMapper));
     }
   }
+
+  private record FetchedTemplate(JsonNode template, OrderTemplatePrototype prototype) {
+  }
 }
@@ -1,27 +1,67 @@
 package org.folio.mosaic.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.mosaic.cache.OrganizationCache;
 import org.folio.mosaic.client.OrganizationsClient;
+import org.folio.mosaic.exception.InvalidRequestException;
+import org.folio.mosaic.util.UuidUtils;
 import org.folio.rest.acq.model.orgs.Organization;
 import org.folio.rest.acq.model.orgs.OrganizationCollection;
 import org.springframework.stereotype.Service;
 
+@Log4j2
 @RequiredArgsConstructor
 @Service
 public class OrganizationService {
 
   private final OrganizationsClient organizationsClient;
+  private final OrganizationCache organizationCache;
 
   public void create(Organization organization) {
     organizationsClient.createOrganization(organization);
+    if (organization.getCode() != null) {
+      organizationCache.invalidate(organization.getCode());
+    }
   }
 
   public Organization findByCode(String organizationCode) {
-    String query = String.format("code==%s", organizationCode);
+    return organizationCache.get(organizationCode, this::fetchByCode);
+  }
+
+  /**
+   * Resolves the vendor of an order, which is either the id or the code of the vendor organization.
+   *
+   * @param idOrCode id or code of the vendor organization
+   * @return id of the vendor organization
+   * @throws InvalidRequestException if no organization has the given code
+   */
+  public String resolveVendorId(String idOrCode) {
+    if (UuidUtils.isUuid(idOrCode)) {
+      return idOrCode;
+    }
+    var organization = findByCode(idOrCode);
+    if (organization == null) {
+      log.warn("resolveVendorId:: No organization with code: {}", idOrCode);
+      throw new InvalidRequestException("Vendor organization with code %s is not found".formatted(idOrCode));
+    }
+    return organization.getId();
+  }
+
+  private Organization fetchByCode(String organizationCode) {
+    String query = String.format("code==\"%s\"", escapeCql(organizationCode));
     OrganizationCollection organizations = organizationsClient.getOrganizations(query);
     if (organizations.getOrganizations().size() == 1) {
       return organizations.getOrganizations().getFirst();
     }
     return null;
   }
+
+  /**
+   * Vendor codes come from requests, so quotes and masking characters are escaped to keep the query a single
+   * exact match.
+   */
+  private static String escapeCql(String value) {
+    return value.replaceAll("[\\\\\"*?^]", "\\\\$0");
+  }
 }
@@ -1,6 +1,7 @@
 package org.folio.mosaic.service;
 
 import org.apache.commons.lang3.ObjectUtils;
+import org.folio.mosaic.util.EnumLookup;
 import org.folio.rest.acq.model.mosaic.MosaicOrder;
 import org.folio.rest.acq.model.orders.Physical;
 import org.folio.rest.acq.model.orders.PoLine;
@@ -11,6 +12,8 @@ import static org.apache.commons.lang3.StringUtils.isBlank;
 @Component
 public class PhysicalMapper {
 
+  private static final EnumLookup<Physical.CreateInventory> CREATE_INVENTORY = EnumLookup.byName(Physical.CreateInventory.class);
+
   public void updatePoLinePhysical(MosaicOrder mosaicOrder, PoLine poLine) {
     if (ObjectUtils.isEmpty(mosaicOrder.getPhysical())) {
       return;
@@ -27,9 +30,7 @@ public class PhysicalMapper {
     if (ObjectUtils.isEmpty(mosaicOrder.getPhysical().getCreateInventory())) {
       return;
     }
-    var createInventory = mosaicOrder.getPhysical().getCreateInventory().name();
-
-    physical.setCreateInventory(Physical.CreateInventory.valueOf(createInventory));
+    physical.setCreateInventory(CREATE_INVENTORY.map(mosaicOrder.getPhysical().getCreateInventory()));
   }
 
   private void updatePoLineMaterialType(MosaicOrder mosaicOrder, Physical physical) {
@@ -0,0 +1,131 @@
+package org.folio.mosaic.service;
+
+import static org.folio.mosaic.service.TemplateInitService.DEFAULT_TEMPLATE_ID;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.folio.mosaic.config.WarmUpProperties;
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
+import org.folio.rest.acq.model.mosaic.ReferenceNumberItem;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Warms up a tenant before its first orders: loads its configuration and its default order template into
+ * the caches, which also opens the database and downstream connections, and converts sample orders so the
+ * conversion is compiled by the JIT.
+ * <br><br>
+ * Tenants are warmed up when they are enabled, and all enabled tenants on startup. Application runners
+ * complete before the readiness state changes to accepting traffic, so readiness is held until then.
+ * Warm-up is best effort, its failures are logged and never fail the startup or the tenant enable.
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class WarmUpService implements ApplicationRunner {
+
+  private static final String DEFAULT_ORDER_TEMPLATE_RESOURCE = "default_order_template.json";
+
+  private final OrdersService ordersService;
+  private final ConfigurationService configurationService;
+  private final MosaicOrderConverter orderConverter;
+  private final WarmUpProperties properties;
+  private final EnabledTenantsService enabledTenantsService;
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!properties.isEnabled() || !properties.isOnStartup()) {
+      return;
+    }
+    List<String> tenants;
+    try {
+      tenants = enabledTenantsService.findEnabledTenants();
+    } catch (RuntimeException e) {
+      log.warn("run:: Failed to find the enabled tenants to warm up: {}", e.getMessage());
+      return;
+    }
+    log.info("run:: Warming up enabled tenants: {}", tenants);
+    for (var tenant : tenants) {
+      try {
+        enabledTenantsService.runAsTenant(tenant, this::warmUpTenant);
+      } catch (RuntimeException e) {
+        log.warn("run:: Failed to warm up tenant: {}, reason: {}", tenant, e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Warms up the tenant of the current execution context.
+   */
+  public void warmUpTenant() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    var start = System.nanoTime();
+    var templateId = resolveDefaultTemplateId();
+    var prototype = loadTemplate(templateId);
+    if (prototype != null) {
+      convertSampleOrders(prototype);
+    }
+    log.info("warmUpTenant:: Warmed up with template: {} in {} ms", templateId,
+      TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  private String resolveDefaultTemplateId() {
+    try {
+      var templateId = configurationService.getConfiguration().getDefaultTemplateId();
+      return StringUtils.isNotBlank(templateId) ? templateId : DEFAULT_TEMPLATE_ID;
+    } catch (RuntimeException e) {
+      log.info("resolveDefaultTemplateId:: No configured default template, using: {}, reason: {}",
+        DEFAULT_TEMPLATE_ID, e.getMessage());
+      return DEFAULT_TEMPLATE_ID;
+    }
+  }
+
+  /**
+   * Loads the template into the cache, or falls back to the bundled default template
+   * so that the conversion is still warmed up if mod-orders cannot be reached.
+   */
+  private OrderTemplatePrototype loadTemplate(String templateId) {
+    try {
+      return ordersService.getOrderTemplatePrototype(templateId);
+    } catch (RuntimeException e) {
+      log.warn("loadTemplate:: Failed to load order template: {}, reason: {}", templateId, e.getMessage());
+    }
+    try (var inputStream = new ClassPathResource(DEFAULT_ORDER_TEMPLATE_RESOURCE).getInputStream()) {
+      return OrderTemplatePrototype.compile(objectMapper.readTree(inputStream), objectMapper);
+    } catch (IOException | RuntimeException e) {
+      log.warn("loadTemplate:: Failed to read the bundled default order template: {}", e.getMessage());
+      return null;
+    }
+  }
+
+  private void convertSampleOrders(OrderTemplatePrototype prototype) {
+    var mosaicOrder = new MosaicOrder()
+      .withTitle("Warm-up title")
+      .withListUnitPrice(10.0)
+      .withQuantityPhysical(1)
+      .withReferenceNumbers(List.of(new ReferenceNumberItem()
+        .withRefNumber("warm-up")
+        .withRefNumberType(ReferenceNumberItem.RefNumberType.VENDOR_CONTINUATION_REFERENCE_NUMBER)));
+    try {
+      for (int i = 0; i < properties.getConversions(); i++) {
+        var order = prototype.newOrder();
+        orderConverter.applyOverrides(order, mosaicOrder);
+        objectMapper.writeValueAsBytes(order);
+      }
+    } catch (RuntimeException e) {
+      log.warn("convertSampleOrders:: Failed to convert sample orders: {}", e.getMessage());
+    }
+  }
+}
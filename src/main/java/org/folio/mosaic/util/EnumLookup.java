@@ -0,0 +1,72 @@
+package org.folio.mosaic.util;
+
+import java.lang.reflect.Array;
+import java.util.function.Function;
+
+/**
+ * Conversion of enum constants to the target enum, resolved once per source enum into a table
+ * indexed by ordinal. Converting a constant is then an array lookup instead of a round trip
+ * through its name or JSON value.
+ *
+ * @param <T> target enum
+ */
+public final class EnumLookup<T extends Enum<T>> {
+
+  private final Class<T> targetType;
+  private final ClassValue<T[]> tables;
+
+  private EnumLookup(Class<T> targetType, Function<Enum<?>, T> resolver) {
+    this.targetType = targetType;
+    this.tables = new ClassValue<>() {
+      @Override
+      protected T[] computeValue(Class<?> sourceType) {
+        var sources = (Enum<?>[]) sourceType.getEnumConstants();
+        @SuppressWarnings("unchecked")
+        var table = (T[]) Array.newInstance(targetType, sources.length);
+        for (var source : sources) {
+          table[source.ordinal()] = resolve(resolver, source);
+        }
+        return table;
+      }
+    };
+  }
+
+  /**
+   * Maps source constants to the target constant of the same name.
+   */
+  public static <T extends Enum<T>> EnumLookup<T> byName(Class<T> targetType) {
+    return new EnumLookup<>(targetType, source -> Enum.valueOf(targetType, source.name()));
+  }
+
+  /**
+   * Maps source constants to the target constant with the same JSON value, e.g. {@code RefNumberType::fromValue}.
+   */
+  public static <T extends Enum<T>> EnumLookup<T> byValue(Class<T> targetType, Function<String, T> fromValue) {
+    return new EnumLookup<>(targetType, source -> fromValue.apply(source.toString()));
+  }
+
+  /**
+   * @param source constant of any enum
+   * @return the target constant or null if the source is null
+   * @throws IllegalArgumentException if the target enum has no matching constant
+   */
+  public T map(Enum<?> source) {
+    if (source == null) {
+      return null;
+    }
+    var target = tables.get(source.getDeclaringClass())[source.ordinal()];
+    if (target == null) {
+      throw new IllegalArgumentException("No enum constant %s matching %s".formatted(targetType.getName(), source));
+    }
+    return target;
+  }
+
+  private static <T> T resolve(Function<Enum<?>, T> resolver, Enum<?> source) {
+    try {
+      return resolver.apply(source);
+    } catch (IllegalArgumentException e) {
+      // Unmatched constants fail on conversion, as the resolver would have
+      return null;
+    }
+  }
+}
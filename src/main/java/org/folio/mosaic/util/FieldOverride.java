@@ -0,0 +1,34 @@
+package org.folio.mosaic.util;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Overrides a single field of the target with the value of the source, if the source has one.
+ *
+ * @param <S> source type
+ * @param <T> target type
+ * @param <V> field value type
+ */
+public record FieldOverride<S, T, V>(Function<S, V> getter, Predicate<? super V> isPresent, BiConsumer<T, V> setter) {
+
+  public static <S, T, V> FieldOverride<S, T, V> of(Function<S, V> getter, Predicate<? super V> isPresent,
+                                                    BiConsumer<T, V> setter) {
+    return new FieldOverride<>(getter, isPresent, setter);
+  }
+
+  public void apply(S source, T target) {
+    var value = getter.apply(source);
+    if (isPresent.test(value)) {
+      setter.accept(target, value);
+    }
+  }
+
+  public static <S, T> void applyAll(List<FieldOverride<S, T, ?>> overrides, S source, T target) {
+    for (var override : overrides) {
+      override.apply(source, target);
+    }
+  }
+}
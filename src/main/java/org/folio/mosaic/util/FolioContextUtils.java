@@ -0,0 +1,40 @@
+package org.folio.mosaic.util;
+
+import java.util.concurrent.Callable;
+
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Helpers to run work on other threads (virtual threads, worker pools) within the
+ * {@link FolioExecutionContext} of the tenant that submitted it.
+ */
+@UtilityClass
+public class FolioContextUtils {
+
+  /**
+   * Detaches the current execution context from the (thread bound) scoped proxy,
+   * so it can be handed over to another thread.
+   */
+  public static FolioExecutionContext snapshot(FolioExecutionContext folioExecutionContext) {
+    return (FolioExecutionContext) folioExecutionContext.getInstance();
+  }
+
+  public static <T> Callable<T> withContext(FolioExecutionContext context, Callable<T> task) {
+    return () -> {
+      try (var ignored = new FolioExecutionContextSetter(context)) {
+        return task.call();
+      }
+    };
+  }
+
+  public static Runnable withContext(FolioExecutionContext context, Runnable task) {
+    return () -> {
+      try (var ignored = new FolioExecutionContextSetter(context)) {
+        task.run();
+      }
+    };
+  }
+}
@@ -0,0 +1,32 @@
+package org.folio.mosaic.util;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class UuidUtils {
+
+  /**
+   * Canonical 8-4-4-4-12 hex form, {@link UUID#fromString} alone also accepts shorter groups like <code>1-2-3-4-5</code>.
+   */
+  private static final Pattern UUID_PATTERN =
+    Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+
+  /**
+   * Tells apart references given by id from those given by a human-readable code.
+   */
+  public static boolean isUuid(String value) {
+    return value != null && UUID_PATTERN.matcher(value).matches();
+  }
+
+  /**
+   * Parses a UUID in its canonical form.
+   *
+   * @return the UUID or null if the value is not a canonical UUID
+   */
+  public static UUID toUuid(String value) {
+    return isUuid(value) ? UUID.fromString(value) : null;
+  }
+}
@@ -1,5 +1,8 @@
 package org.folio.mosaic.util.error;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.ObjectUtils;
 import org.folio.rest.acq.model.mosaic.MosaicCustomFields;
@@ -11,15 +14,27 @@ public class CustomFieldsUtil {
 
   private static final String VALUE = "value";
 
-  public static CustomFields getCustomFieldsByEntityType(MosaicOrder mosaicOrder, MosaicCustomFields.EntityType entityType) {
-    var convertedCustomFields = new CustomFields();
-    mosaicOrder.getCustomFields().stream()
-      .filter(field -> field.getEntityType() == entityType)
-      .filter(field -> ObjectUtils.isNotEmpty(field.getAdditionalProperties()))
-      .forEach(field -> {
-        var value = field.getAdditionalProperties().get(VALUE);
-        convertedCustomFields.withAdditionalProperty(field.getRefId(), value);
-      });
-    return convertedCustomFields;
+  /**
+   * Splits the custom fields of the order by their entity type in a single pass.
+   *
+   * @param mosaicOrder The mosaic order from request
+   * @return Custom fields for every entity type, or an empty map if the order has no custom fields
+   */
+  public static Map<MosaicCustomFields.EntityType, CustomFields> partitionByEntityType(MosaicOrder mosaicOrder) {
+    var partitions = new EnumMap<MosaicCustomFields.EntityType, CustomFields>(MosaicCustomFields.EntityType.class);
+    if (ObjectUtils.isEmpty(mosaicOrder.getCustomFields())) {
+      return partitions;
+    }
+    for (var entityType : MosaicCustomFields.EntityType.values()) {
+      partitions.put(entityType, new CustomFields());
+    }
+    for (var field : mosaicOrder.getCustomFields()) {
+      if (field.getEntityType() == null || ObjectUtils.isEmpty(field.getAdditionalProperties())) {
+        continue;
+      }
+      var value = field.getAdditionalProperties().get(VALUE);
+      partitions.get(field.getEntityType()).withAdditionalProperty(field.getRefId(), value);
+    }
+    return partitions;
   }
 }
@@ -13,6 +13,8 @@ public enum ErrorCode {
   ALREADY_EXISTS_ERROR("alreadyExistsError", "Resource already exists"),
   INTERNAL_ERROR("internalError", "Internal error occurred"),
   BAD_REQUEST_ERROR("badRequestError", "Bad request sent by the client"),
+  SERVICE_UNAVAILABLE_ERROR("serviceUnavailableError", "Downstream service is unavailable"),
+  TOO_MANY_REQUESTS_ERROR("tooManyRequestsError", "Too many requests"),
   UNKNOWN_ERROR("unknownError", "Unknown error occurred");
 
   private final String code;
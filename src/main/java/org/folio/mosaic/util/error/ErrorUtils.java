@@ -4,6 +4,13 @@ import java.util.List;
 
 import org.folio.mosaic.domain.dto.Error;
 import org.folio.mosaic.domain.dto.Errors;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
+import org.folio.mosaic.exception.InvalidRequestException;
+import org.folio.mosaic.exception.ResourceAlreadyExistException;
+import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.exception.TooManyRequestsException;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 
 import lombok.experimental.UtilityClass;
 
@@ -18,4 +25,28 @@ public class ErrorUtils {
     return new Errors().errors(List.of(errors)).totalRecords(errors.length);
   }
 
+  /**
+   * Maps an exception to an error the same way the controller exception handler does,
+   * for responses reporting several outcomes at once.
+   */
+  public static Error getError(Exception e) {
+    var error = getErrorCode(e).toError();
+    return e.getMessage() != null ? error.message(e.getMessage()) : error;
+  }
+
+  private static ErrorCode getErrorCode(Exception e) {
+    return switch (e) {
+      case HttpClientErrorException.NotFound ignored -> ErrorCode.NOT_FOUND_ERROR;
+      case HttpClientErrorException.UnprocessableContent ignored -> ErrorCode.VALIDATION_ERROR;
+      case HttpClientErrorException ignored -> ErrorCode.BAD_REQUEST_ERROR;
+      case HttpServerErrorException ignored -> ErrorCode.INTERNAL_ERROR;
+      case ResourceNotFoundException ignored -> ErrorCode.NOT_FOUND_ERROR;
+      case ResourceAlreadyExistException ignored -> ErrorCode.ALREADY_EXISTS_ERROR;
+      case InvalidRequestException ignored -> ErrorCode.BAD_REQUEST_ERROR;
+      case DownstreamUnavailableException ignored -> ErrorCode.SERVICE_UNAVAILABLE_ERROR;
+      case TooManyRequestsException ignored -> ErrorCode.TOO_MANY_REQUESTS_ERROR;
+      default -> ErrorCode.UNKNOWN_ERROR;
+    };
+  }
+
 }
@@ -0,0 +1,73 @@
+package org.folio.mosaic.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.mosaic.domain.entity.MosaicConfigurationEntity;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigurationCacheTest {
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+
+  private ConfigurationCache configurationCache;
+
+  @BeforeEach
+  void setUp() {
+    configurationCache = new ConfigurationCache(folioExecutionContext, new CacheProperties(), new SimpleMeterRegistry());
+  }
+
+  @Test
+  void testGetLoadsConfigurationOncePerTenant() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1", "tenant1", "tenant2");
+    var loads = new AtomicInteger();
+
+    var first = configurationCache.get(() -> configuration(loads));
+    var second = configurationCache.get(() -> configuration(loads));
+    configurationCache.get(() -> configuration(loads));
+
+    assertSame(first, second);
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testInvalidateAfterCommitEvictsOnlyOnCommit() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var loads = new AtomicInteger();
+    configurationCache.get(() -> configuration(loads));
+
+    TransactionSynchronizationManager.initSynchronization();
+    try {
+      configurationCache.invalidateAfterCommit();
+      configurationCache.get(() -> configuration(loads));
+      assertEquals(1, loads.get());
+
+      TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    configurationCache.get(() -> configuration(loads));
+    assertEquals(2, loads.get());
+  }
+
+  private static MosaicConfigurationEntity configuration(AtomicInteger loads) {
+    loads.incrementAndGet();
+    return new MosaicConfigurationEntity();
+  }
+}
@@ -0,0 +1,241 @@
+package org.folio.mosaic.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.mosaic.service.OrderTemplatePrototype;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orders.PoLine;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OrderTemplateCacheTest {
+
+  private static final String TEMPLATE_ID = "template-id";
+  private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+
+  private SimpleMeterRegistry meterRegistry;
+  private OrderTemplateCache orderTemplateCache;
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final List<Runnable> refreshes = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    orderTemplateCache = new OrderTemplateCache(folioExecutionContext, new CacheProperties(), meterRegistry,
+      nanoTime::get, refreshes::add);
+  }
+
+  @Test
+  void testGetLoadsTemplateOncePerTenant() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1", "tenant1", "tenant2");
+    var loads = new AtomicInteger();
+
+    var first = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+    var second = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+    var otherTenant = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+
+    assertSame(first, second);
+    assertEquals(2, version(otherTenant));
+    assertEquals(2, loads.get());
+    assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", OrderTemplateCache.CACHE_NAME).tag("result", "hit")
+      .functionCounter().count());
+  }
+
+  @Test
+  void testGetCachesMissingTemplate() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var loads = new AtomicInteger();
+
+    assertNull(orderTemplateCache.get(TEMPLATE_ID, id -> {
+      loads.incrementAndGet();
+      return null;
+    }));
+    assertNull(orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet())));
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void testInvalidateForgetsMissingTemplate() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var loads = new AtomicInteger();
+
+    orderTemplateCache.get(TEMPLATE_ID, id -> {
+      loads.incrementAndGet();
+      return null;
+    });
+    orderTemplateCache.invalidate(TEMPLATE_ID);
+    var result = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+
+    assertEquals(2, version(result));
+  }
+
+  @Test
+  void testGetDoesNotCacheMissingTemplateWhenDisabled() {
+    var cacheProperties = new CacheProperties();
+    cacheProperties.getMissingTemplates().setEnabled(false);
+    orderTemplateCache = new OrderTemplateCache(folioExecutionContext, cacheProperties, meterRegistry, refreshes::add);
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var loads = new AtomicInteger();
+
+    assertNull(orderTemplateCache.get(TEMPLATE_ID, id -> {
+      loads.incrementAndGet();
+      return null;
+    }));
+    var result = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+
+    assertEquals(2, version(result));
+  }
+
+  @Test
+  void testInvalidateForcesReload() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var loads = new AtomicInteger();
+
+    orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+    orderTemplateCache.invalidate(TEMPLATE_ID);
+    var result = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+
+    assertEquals(2, version(result));
+  }
+
+  @Test
+  void testGetServesStaleTemplateWhileRefreshing() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    var loads = new AtomicInteger();
+
+    orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+    advance(Duration.ofMinutes(6));
+    var stale = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+    var stillStale = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+
+    assertEquals(1, version(stale));
+    assertEquals(1, version(stillStale));
+    assertEquals(1, refreshes.size());
+
+    refreshes.getFirst().run();
+    var fresh = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+
+    assertEquals(2, version(fresh));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testGetKeepsStaleTemplateWhenRefreshFails() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+
+    orderTemplateCache.get(TEMPLATE_ID, id -> template(1));
+    advance(Duration.ofMinutes(6));
+    orderTemplateCache.get(TEMPLATE_ID, id -> {
+      throw new IllegalStateException("mod-orders is down");
+    });
+    refreshes.getFirst().run();
+    var stale = orderTemplateCache.get(TEMPLATE_ID, id -> template(2));
+
+    assertEquals(1, version(stale));
+    assertEquals(2, refreshes.size());
+  }
+
+  @Test
+  void testGetLoadsInlinePastHardExpiry() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var loads = new AtomicInteger();
+
+    orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+    advance(Duration.ofMinutes(11));
+    var result = orderTemplateCache.get(TEMPLATE_ID, id -> template(loads.incrementAndGet()));
+
+    assertEquals(2, version(result));
+    assertEquals(0, refreshes.size());
+  }
+
+  @Test
+  void testGetDoesNotRefreshWhenRevalidationDisabled() {
+    var cacheProperties = new CacheProperties();
+    cacheProperties.getTemplatesRevalidation().setEnabled(false);
+    orderTemplateCache = new OrderTemplateCache(folioExecutionContext, cacheProperties, meterRegistry,
+      nanoTime::get, refreshes::add);
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+
+    orderTemplateCache.get(TEMPLATE_ID, id -> template(1));
+    advance(Duration.ofMinutes(6));
+    var result = orderTemplateCache.get(TEMPLATE_ID, id -> template(2));
+
+    assertEquals(1, version(result));
+    assertEquals(0, refreshes.size());
+  }
+
+  @Test
+  void testConcurrentMissesTriggerSingleLoad() throws Exception {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var loads = new AtomicInteger();
+    var start = new CountDownLatch(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures = new ArrayList<Future<OrderTemplatePrototype>>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return orderTemplateCache.get(TEMPLATE_ID, id -> {
+            sleep();
+            return template(loads.incrementAndGet());
+          });
+        }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        assertEquals(1, version(future.get()));
+      }
+    }
+    assertEquals(1, loads.get());
+  }
+
+  private static OrderTemplatePrototype template(int version) {
+    return OrderTemplatePrototype.compile(Pair.of(new CompositePurchaseOrder().withId(TEMPLATE_ID),
+      new PoLine().withEdition(String.valueOf(version))), OBJECT_MAPPER);
+  }
+
+  private static int version(OrderTemplatePrototype template) {
+    return Integer.parseInt(template.newPoLine().getEdition());
+  }
+
+  private void advance(Duration duration) {
+    nanoTime.addAndGet(duration.toNanos());
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package org.folio.mosaic.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.rest.acq.model.orgs.Organization;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizationCacheTest {
+
+  private static final String CODE = "AMAZ";
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+
+  private CacheProperties cacheProperties;
+  private OrganizationCache organizationCache;
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final List<Runnable> refreshes = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    cacheProperties = new CacheProperties();
+    organizationCache = new OrganizationCache(folioExecutionContext, cacheProperties, new SimpleMeterRegistry(),
+      nanoTime::get, refreshes::add);
+  }
+
+  @Test
+  void testGetServesStaleOrganizationWhileRefreshing() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    var loads = new AtomicInteger();
+
+    organizationCache.get(CODE, code -> organization(loads.incrementAndGet()));
+    advance(Duration.ofMinutes(6));
+    var stale = organizationCache.get(CODE, code -> organization(loads.incrementAndGet()));
+    var stillStale = organizationCache.get(CODE, code -> organization(loads.incrementAndGet()));
+
+    assertEquals("1", stale.getId());
+    assertEquals("1", stillStale.getId());
+    assertEquals(1, refreshes.size());
+
+    refreshes.getFirst().run();
+
+    assertEquals("2", organizationCache.get(CODE, code -> organization(loads.incrementAndGet())).getId());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testGetKeepsStaleOrganizationWhenRefreshFails() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+
+    organizationCache.get(CODE, code -> organization(1));
+    advance(Duration.ofMinutes(6));
+    organizationCache.get(CODE, code -> {
+      throw new IllegalStateException("mod-organizations is down");
+    });
+    refreshes.getFirst().run();
+
+    assertEquals("1", organizationCache.get(CODE, code -> organization(2)).getId());
+    assertEquals(2, refreshes.size());
+  }
+
+  @Test
+  void testGetLoadsInlinePastHardExpiry() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+
+    organizationCache.get(CODE, code -> organization(1));
+    advance(Duration.ofMinutes(6));
+    organizationCache.get(CODE, code -> {
+      throw new IllegalStateException("mod-organizations is down");
+    });
+    refreshes.getFirst().run();
+    advance(Duration.ofMinutes(5));
+
+    assertEquals("2", organizationCache.get(CODE, code -> organization(2)).getId());
+  }
+
+  @Test
+  void testGetRemembersMissingCodeUntilItExpires() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var loads = new AtomicInteger();
+
+    assertNull(organizationCache.get(CODE, code -> {
+      loads.incrementAndGet();
+      return null;
+    }));
+    assertNull(organizationCache.get(CODE, code -> organization(loads.incrementAndGet())));
+    assertEquals(1, loads.get());
+
+    advance(Duration.ofSeconds(31));
+
+    assertEquals("2", organizationCache.get(CODE, code -> organization(loads.incrementAndGet())).getId());
+  }
+
+  @Test
+  void testInvalidateForgetsMissingCode() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+
+    assertNull(organizationCache.get(CODE, code -> null));
+    organizationCache.invalidate(CODE);
+
+    assertEquals("1", organizationCache.get(CODE, code -> organization(1)).getId());
+  }
+
+  @Test
+  void testGetDoesNotRememberMissingCodeWhenDisabled() {
+    cacheProperties.getMissingOrganizations().setEnabled(false);
+    organizationCache = new OrganizationCache(folioExecutionContext, cacheProperties, new SimpleMeterRegistry(),
+      nanoTime::get, refreshes::add);
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+
+    assertNull(organizationCache.get(CODE, code -> null));
+
+    assertEquals("1", organizationCache.get(CODE, code -> organization(1)).getId());
+  }
+
+  private void advance(Duration duration) {
+    nanoTime.addAndGet(duration.toNanos());
+  }
+
+  private static Organization organization(int version) {
+    var organization = new Organization();
+    organization.setId(String.valueOf(version));
+    organization.setCode(CODE);
+    return organization;
+  }
+}
@@ -0,0 +1,122 @@
+package org.folio.mosaic.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TemplateCodeIndexCacheTest {
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+
+  private TemplateCodeIndexCache templateCodeIndexCache;
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final List<Runnable> refreshes = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    templateCodeIndexCache = new TemplateCodeIndexCache(folioExecutionContext, new CacheProperties(),
+      new SimpleMeterRegistry(), nanoTime::get, refreshes::add);
+  }
+
+  @Test
+  void testGetServesStaleIndexWhileRebuilding() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    var loads = new AtomicInteger();
+
+    templateCodeIndexCache.get(() -> index(loads.incrementAndGet()));
+    advance(Duration.ofMinutes(6));
+    var stale = templateCodeIndexCache.get(() -> index(loads.incrementAndGet()));
+    var stillStale = templateCodeIndexCache.get(() -> index(loads.incrementAndGet()));
+
+    assertEquals("1", stale.get("MOSAIC"));
+    assertEquals("1", stillStale.get("MOSAIC"));
+    assertEquals(1, loads.get());
+    assertEquals(1, refreshes.size());
+
+    refreshes.getFirst().run();
+
+    assertEquals("2", templateCodeIndexCache.get(() -> index(loads.incrementAndGet())).get("MOSAIC"));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void testGetKeepsStaleIndexWhenRebuildFails() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+
+    templateCodeIndexCache.get(() -> index(1));
+    advance(Duration.ofMinutes(6));
+    templateCodeIndexCache.get(() -> {
+      throw new IllegalStateException("mod-orders is down");
+    });
+    refreshes.getFirst().run();
+    var stale = templateCodeIndexCache.get(() -> index(2));
+
+    assertEquals("1", stale.get("MOSAIC"));
+    assertEquals(2, refreshes.size());
+  }
+
+  @Test
+  void testGetRebuildsInlinePastHardExpiry() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+
+    templateCodeIndexCache.get(() -> index(1));
+    advance(Duration.ofMinutes(6));
+    templateCodeIndexCache.get(() -> {
+      throw new IllegalStateException("mod-orders is down");
+    });
+    refreshes.getFirst().run();
+    advance(Duration.ofMinutes(25));
+
+    assertEquals("2", templateCodeIndexCache.get(() -> index(2)).get("MOSAIC"));
+  }
+
+  @Test
+  void testGetKeepsIndexPerTenant() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1", "tenant2", "tenant1");
+
+    templateCodeIndexCache.get(() -> index(1));
+
+    assertEquals("2", templateCodeIndexCache.get(() -> index(2)).get("MOSAIC"));
+    assertEquals("1", templateCodeIndexCache.get(() -> index(3)).get("MOSAIC"));
+  }
+
+  @Test
+  void testInvalidateForcesInlineLoad() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+
+    templateCodeIndexCache.get(() -> index(1));
+    templateCodeIndexCache.invalidate();
+
+    assertEquals("2", templateCodeIndexCache.get(() -> index(2)).get("MOSAIC"));
+    assertEquals(0, refreshes.size());
+  }
+
+  private void advance(Duration duration) {
+    nanoTime.addAndGet(duration.toNanos());
+  }
+
+  private static Map<String, String> index(int version) {
+    return Map.of("MOSAIC", String.valueOf(version));
+  }
+}
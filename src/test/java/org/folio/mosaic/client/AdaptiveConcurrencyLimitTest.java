@@ -0,0 +1,87 @@
+package org.folio.mosaic.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.mosaic.config.ResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTest {
+
+  private static final long FLAT_LATENCY = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long HIGH_LATENCY = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private ResilienceProperties.AdaptiveLimit settings;
+
+  @BeforeEach
+  void setUp() {
+    settings = new ResilienceProperties.AdaptiveLimit();
+    settings.setInitialLimit(10);
+    settings.setMinLimit(2);
+    settings.setMaxLimit(50);
+  }
+
+  @Test
+  void testTryAcquireRejectsCallsBeyondLimit() {
+    var limit = new AdaptiveConcurrencyLimit(settings);
+
+    for (int i = 0; i < 10; i++) {
+      assertTrue(limit.tryAcquire());
+    }
+    assertFalse(limit.tryAcquire());
+
+    limit.release();
+    assertTrue(limit.tryAcquire());
+    assertEquals(10, limit.getInFlight());
+  }
+
+  @Test
+  void testLimitGrowsWhileLatencyIsFlat() {
+    var limit = new AdaptiveConcurrencyLimit(settings);
+
+    saturate(limit, FLAT_LATENCY, 100);
+
+    assertEquals(50, limit.getLimit());
+  }
+
+  @Test
+  void testLimitShrinksWhenLatencyRises() {
+    var limit = new AdaptiveConcurrencyLimit(settings);
+    saturate(limit, FLAT_LATENCY, 20);
+    var healthyLimit = limit.getLimit();
+
+    saturate(limit, HIGH_LATENCY, 20);
+
+    assertTrue(limit.getLimit() < healthyLimit);
+    assertTrue(limit.getLimit() >= settings.getMinLimit());
+  }
+
+  @Test
+  void testLimitDoesNotGrowWhileMostlyIdle() {
+    var limit = new AdaptiveConcurrencyLimit(settings);
+
+    for (int i = 0; i < 100; i++) {
+      limit.tryAcquire();
+      limit.complete(FLAT_LATENCY);
+    }
+
+    assertEquals(10, limit.getLimit());
+    assertEquals(0, limit.getInFlight());
+  }
+
+  /**
+   * Keeps the limit fully used and completes one call at a time with the given latency.
+   */
+  private static void saturate(AdaptiveConcurrencyLimit limit, long latency, int calls) {
+    for (int i = 0; i < calls; i++) {
+      while (limit.tryAcquire()) {
+        // fill up the limit
+      }
+      limit.complete(latency);
+    }
+  }
+}
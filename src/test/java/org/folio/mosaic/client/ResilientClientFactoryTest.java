@@ -0,0 +1,277 @@
+package org.folio.mosaic.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.mosaic.config.ResilienceProperties;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orgs.Organization;
+import org.folio.rest.acq.model.orgs.OrganizationCollection;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ResilientClientFactoryTest {
+
+  private static final String DOWNSTREAM = "mod-organizations";
+
+  @Mock private OrganizationsClient organizationsClient;
+  @Mock private OrdersClient ordersClient;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private ResilienceProperties properties;
+
+  @BeforeEach
+  void setUp() {
+    properties = new ResilienceProperties();
+    properties.getCircuitBreaker().setSlidingWindowSize(2);
+    properties.getCircuitBreaker().setMinimumNumberOfCalls(2);
+    properties.getRetry().setInitialBackoff(Duration.ofMillis(1));
+  }
+
+  @Test
+  void testCircuitBreakerOpensOnServerErrors() {
+    when(organizationsClient.getOrganizations(anyString()))
+      .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+    var client = decorate();
+
+    assertThrows(HttpServerErrorException.class, () -> client.getOrganizations("query"));
+    assertThrows(HttpServerErrorException.class, () -> client.getOrganizations("query"));
+    assertThrows(DownstreamUnavailableException.class, () -> client.getOrganizations("query"));
+
+    verify(organizationsClient, times(2)).getOrganizations("query");
+  }
+
+  @Test
+  void testClientErrorsDoNotOpenCircuitBreaker() {
+    when(organizationsClient.getOrganizations(anyString()))
+      .thenThrow(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+    var client = decorate();
+
+    for (int i = 0; i < 4; i++) {
+      assertThrows(HttpClientErrorException.class, () -> client.getOrganizations("query"));
+    }
+
+    verify(organizationsClient, times(4)).getOrganizations("query");
+  }
+
+  @Test
+  void testBulkheadRejectsCallsBeyondLimit() throws Exception {
+    properties.getBulkhead().setMaxConcurrentCalls(1);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    when(organizationsClient.getOrganizations("slow")).thenAnswer(invocation -> {
+      started.countDown();
+      release.await();
+      return new OrganizationCollection();
+    });
+    var client = decorate();
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var inFlight = executor.submit(() -> client.getOrganizations("slow"));
+      started.await();
+
+      assertThrows(DownstreamUnavailableException.class, () -> client.getOrganizations("other"));
+
+      release.countDown();
+      inFlight.get();
+    }
+    assertEquals(1.0, meterRegistry.get(ResilientClientFactory.BULKHEAD_REJECTIONS_METRIC).counter().count());
+  }
+
+  @Test
+  void testGetRetriedOnTransientError() {
+    var organizations = new OrganizationCollection();
+    when(organizationsClient.getOrganizations(anyString()))
+      .thenThrow(new HttpServerErrorException(HttpStatus.BAD_GATEWAY))
+      .thenReturn(organizations);
+    var client = decorate();
+
+    assertSame(organizations, client.getOrganizations("query"));
+
+    verify(organizationsClient, times(2)).getOrganizations("query");
+    assertEquals(1.0, attempts("retry"));
+    assertEquals(1.0, attempts("success"));
+  }
+
+  @Test
+  void testPostNotRetried() {
+    doThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+      .when(organizationsClient).createOrganization(any());
+    var client = decorate();
+
+    assertThrows(HttpServerErrorException.class, () -> client.createOrganization(new Organization()));
+
+    verify(organizationsClient).createOrganization(any());
+  }
+
+  @Test
+  void testRetriesLimitedByBudget() {
+    properties.getCircuitBreaker().setMinimumNumberOfCalls(100);
+    properties.getRetry().setBudgetCapacity(1);
+    properties.getRetry().setBudgetRatio(0);
+    when(organizationsClient.getOrganizations(anyString()))
+      .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+    var client = decorate();
+
+    assertThrows(HttpServerErrorException.class, () -> client.getOrganizations("query"));
+    assertThrows(HttpServerErrorException.class, () -> client.getOrganizations("query"));
+
+    verify(organizationsClient, times(3)).getOrganizations("query");
+    assertEquals(2.0, attempts("budget_exhausted"));
+  }
+
+  private double attempts(String outcome) {
+    return meterRegistry.get(ResilientClientFactory.ATTEMPTS_METRIC).tag("outcome", outcome).counter().count();
+  }
+
+  @Test
+  void testSlowTemplateFetchHedged() {
+    properties.getHedging().setEnabled(true);
+    properties.getHedging().setMinimumNumberOfCalls(1);
+    properties.getHedging().setMinDelay(Duration.ofMillis(20));
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    var hedgedResponse = new ByteArrayInputStream(new byte[0]);
+    var calls = new AtomicInteger();
+    when(ordersClient.getOrderTemplateAsResponse("templateId")).thenAnswer(invocation -> switch (calls.incrementAndGet()) {
+      case 1 -> Optional.empty();
+      case 2 -> {
+        Thread.sleep(5000);
+        yield Optional.empty();
+      }
+      default -> Optional.of(hedgedResponse);
+    });
+    var client = new ResilientClientFactory(properties, folioExecutionContext, meterRegistry)
+      .decorate(OrdersClient.class, ordersClient, "mod-orders");
+
+    client.getOrderTemplateAsResponse("templateId");
+    var result = client.getOrderTemplateAsResponse("templateId");
+
+    assertSame(hedgedResponse, result.orElseThrow());
+    assertEquals(1.0, meterRegistry.get(ResilientClientFactory.HEDGES_METRIC).tag("outcome", "hedge_won").counter().count());
+  }
+
+  @Test
+  void testCancelledHedgeAttemptNotCountedAsFailure() throws Exception {
+    properties.getHedging().setEnabled(true);
+    properties.getHedging().setMinimumNumberOfCalls(1);
+    properties.getHedging().setMinDelay(Duration.ofMillis(20));
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    var hedgedResponse = new ByteArrayInputStream(new byte[0]);
+    var calls = new AtomicInteger();
+    when(ordersClient.getOrderTemplateAsResponse("templateId")).thenAnswer(invocation -> switch (calls.incrementAndGet()) {
+      case 1 -> Optional.empty();
+      case 2 -> {
+        new CountDownLatch(1).await();
+        yield Optional.empty();
+      }
+      default -> Optional.of(hedgedResponse);
+    });
+    var factory = new ResilientClientFactory(properties, folioExecutionContext, meterRegistry);
+    var client = factory.decorate(OrdersClient.class, ordersClient, "mod-orders");
+
+    client.getOrderTemplateAsResponse("templateId");
+    assertSame(hedgedResponse, client.getOrderTemplateAsResponse("templateId").orElseThrow());
+    factory.shutdown();
+
+    assertEquals(0.0, bufferedCalls("mod-orders", "failed"));
+    assertEquals(2.0, bufferedCalls("mod-orders", "successful"));
+  }
+
+  @Test
+  void testLosingHedgeAttemptInterrupted() throws Exception {
+    properties.getHedging().setEnabled(true);
+    properties.getHedging().setMinimumNumberOfCalls(1);
+    properties.getHedging().setMinDelay(Duration.ofMillis(20));
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    var hedgedResponse = new ByteArrayInputStream(new byte[0]);
+    var interrupted = new CountDownLatch(1);
+    var calls = new AtomicInteger();
+    when(ordersClient.getOrderTemplateAsResponse("templateId")).thenAnswer(invocation -> switch (calls.incrementAndGet()) {
+      case 1 -> Optional.empty();
+      case 2 -> {
+        try {
+          new CountDownLatch(1).await();
+        } catch (InterruptedException e) {
+          interrupted.countDown();
+          throw e;
+        }
+        yield Optional.empty();
+      }
+      default -> Optional.of(hedgedResponse);
+    });
+    var client = new ResilientClientFactory(properties, folioExecutionContext, meterRegistry)
+      .decorate(OrdersClient.class, ordersClient, "mod-orders");
+
+    client.getOrderTemplateAsResponse("templateId");
+    assertSame(hedgedResponse, client.getOrderTemplateAsResponse("templateId").orElseThrow());
+
+    assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
+  private double bufferedCalls(String downstream, String kind) {
+    return meterRegistry.get("resilience4j.circuitbreaker.buffered.calls").tags("name", downstream, "kind", kind)
+      .gauge().value();
+  }
+
+  @Test
+  void testOrderCreationsBeyondAdaptiveLimitRejected() throws Exception {
+    properties.getAdaptiveLimit().setEnabled(true);
+    properties.getAdaptiveLimit().setInitialLimit(1);
+    properties.getAdaptiveLimit().setMinLimit(1);
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    when(ordersClient.createOrderAsResponse(any())).thenAnswer(invocation -> {
+      started.countDown();
+      release.await();
+      return new ByteArrayInputStream(new byte[0]);
+    });
+    var client = new ResilientClientFactory(properties, folioExecutionContext, meterRegistry)
+      .decorate(OrdersClient.class, ordersClient, "mod-orders");
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var inFlight = executor.submit(() -> client.createOrderAsResponse(new CompositePurchaseOrder()));
+      started.await();
+
+      assertThrows(DownstreamUnavailableException.class, () -> client.createOrderAsResponse(new CompositePurchaseOrder()));
+
+      release.countDown();
+      inFlight.get();
+    }
+    verify(ordersClient).createOrderAsResponse(any());
+    assertEquals(1.0, meterRegistry.get(ResilientClientFactory.CONCURRENCY_REJECTIONS_METRIC).counter().count());
+    assertEquals(0.0, meterRegistry.get(ResilientClientFactory.CONCURRENCY_IN_FLIGHT_METRIC).gauge().value());
+  }
+
+  private OrganizationsClient decorate() {
+    return new ResilientClientFactory(properties, folioExecutionContext, meterRegistry)
+      .decorate(OrganizationsClient.class, organizationsClient, DOWNSTREAM);
+  }
+}
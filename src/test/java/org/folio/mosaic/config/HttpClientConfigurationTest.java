@@ -0,0 +1,84 @@
+package org.folio.mosaic.config;
+
+import static org.folio.mosaic.config.HttpClientConfiguration.CONNECTION_POOL_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.folio.mosaic.client.ResilientClientFactory;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class HttpClientConfigurationTest {
+
+  private static final byte[] ORDER_TEMPLATES = "{\"orderTemplates\":[],\"totalRecords\":0}"
+    .getBytes(StandardCharsets.UTF_8);
+
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final HttpClientConfiguration configuration = new HttpClientConfiguration();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private HttpServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/orders/order-templates", exchange -> {
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, ORDER_TEMPLATES.length);
+      try (var body = exchange.getResponseBody()) {
+        body.write(ORDER_TEMPLATES);
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void testClientsUsePooledRequestFactory() {
+    var properties = new HttpClientProperties();
+    var requestFactory = configuration.downstreamRequestFactory(properties, meterRegistry);
+    assertInstanceOf(HttpComponentsClientHttpRequestFactory.class, requestFactory);
+    assertEquals(200, poolGauge("httpcomponents.httpclient.pool.total.max"));
+
+    var restClientBuilder = RestClient.builder().baseUrl("http://localhost:" + server.getAddress().getPort());
+    configuration.downstreamRequestFactoryCustomizer(requestFactory).customize(restClientBuilder);
+    var proxyFactory = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClientBuilder.build())).build();
+    var resilience = new ResilienceProperties();
+    resilience.setEnabled(false);
+    var ordersClient = configuration.ordersClient(proxyFactory,
+      new ResilientClientFactory(resilience, folioExecutionContext, meterRegistry));
+
+    ordersClient.getOrderTemplates("cql.allRecords=1", 0, 10);
+    ordersClient.getOrderTemplates("cql.allRecords=1", 0, 10);
+
+    // both calls went through the pool and reused its single connection, which is kept alive
+    assertEquals(1, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+      .tags("httpclient", CONNECTION_POOL_NAME, "state", "available").gauge().value());
+  }
+
+  private double poolGauge(String name) {
+    return meterRegistry.get(name).tag("httpclient", CONNECTION_POOL_NAME).gauge().value();
+  }
+}
@@ -1,14 +1,33 @@
 package org.folio.mosaic.controller;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import lombok.val;
+import org.folio.mosaic.domain.dto.MosaicOrderBatchRequest;
+import org.folio.mosaic.domain.dto.MosaicOrderBatchResponse;
+import org.folio.mosaic.domain.dto.MosaicOrderBatchResult;
+import org.folio.mosaic.domain.dto.MosaicOrderJob;
+import org.folio.mosaic.exception.InvalidRequestException;
+import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.exception.TooManyRequestsException;
+import org.folio.mosaic.service.BatchOrdersService;
+import org.folio.mosaic.service.OrderJobService;
+import org.folio.mosaic.service.OrderRateLimiter;
 import org.folio.mosaic.service.OrdersService;
 import org.folio.mosaic.support.JsonUtils;
 import org.folio.mosaic.util.error.ErrorCode;
@@ -34,6 +53,12 @@ class OrdersControllerTest {
 
   @MockitoBean
   private OrdersService ordersService;
+  @MockitoBean
+  private BatchOrdersService batchOrdersService;
+  @MockitoBean
+  private OrderJobService orderJobService;
+  @MockitoBean
+  private OrderRateLimiter orderRateLimiter;
 
   @Autowired
   private MockMvc mockMvc;
@@ -44,7 +69,7 @@ class OrdersControllerTest {
     var mosaicOrder = new MosaicOrder().withTitle("Test Book");
     var orderRequest = new MosaicOrderRequest().withMosaicOrder(mosaicOrder);
 
-    when(ordersService.createOrder(orderRequest)).thenReturn(poLineNumber);
+    when(ordersService.createOrder(orderRequest, null)).thenReturn(poLineNumber);
 
     mockMvc.perform(post("/mosaic/orders")
         .contentType(MediaType.APPLICATION_JSON)
@@ -52,7 +77,7 @@ class OrdersControllerTest {
       .andExpect(status().isCreated())
       .andExpect(content().string(poLineNumber));
 
-    verify(ordersService).createOrder(orderRequest);
+    verify(ordersService).createOrder(orderRequest, null);
   }
 
   @ParameterizedTest
@@ -62,7 +87,7 @@ class OrdersControllerTest {
     var orderRequest = new MosaicOrderRequest().withMosaicOrder(mosaicOrder);
     var expectedError = ErrorUtils.getErrors(errorCode.toError());
 
-    when(ordersService.createOrder(orderRequest)).thenThrow(throwable);
+    when(ordersService.createOrder(orderRequest, null)).thenThrow(throwable);
 
     mockMvc.perform(post("/mosaic/orders")
         .contentType(MediaType.APPLICATION_JSON)
@@ -70,7 +95,117 @@ class OrdersControllerTest {
       .andExpect(status().is(statusCode))
       .andExpect(content().json(JsonUtils.toJson(expectedError)));
 
-    verify(ordersService).createOrder(orderRequest);
+    verify(ordersService).createOrder(orderRequest, null);
+  }
+
+  @Test
+  void testCreateOrderWithIdempotencyKey() throws Exception {
+    var poLineNumber = "12345";
+    var orderRequest = new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withTitle("Test Book"));
+
+    when(ordersService.createOrder(orderRequest, "request-key")).thenReturn(poLineNumber);
+
+    mockMvc.perform(post("/mosaic/orders")
+        .header("Idempotency-Key", "request-key")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(JsonUtils.toJson(orderRequest)))
+      .andExpect(status().isCreated())
+      .andExpect(content().string(poLineNumber));
+  }
+
+  @Test
+  void testCreateOrders() throws Exception {
+    var orderRequests = List.of(
+      new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withTitle("Test Book 1")),
+      new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withTitle("Test Book 2")));
+    var batchRequest = new MosaicOrderBatchRequest().orders(orderRequests);
+    var batchResponse = new MosaicOrderBatchResponse()
+      .results(List.of(
+        new MosaicOrderBatchResult().status(MosaicOrderBatchResult.StatusEnum.SUCCESS).poLineNumber("10001-1"),
+        new MosaicOrderBatchResult().status(MosaicOrderBatchResult.StatusEnum.FAILED)
+          .error(ErrorCode.VALIDATION_ERROR.toError())))
+      .totalRecords(2);
+
+    when(batchOrdersService.createOrders(orderRequests)).thenReturn(batchResponse);
+
+    mockMvc.perform(post("/mosaic/orders/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(JsonUtils.toJson(batchRequest)))
+      .andExpect(status().isOk())
+      .andExpect(content().json(JsonUtils.toJson(batchResponse)));
+
+    verify(orderRateLimiter).acquire(2);
+    verify(batchOrdersService).createOrders(orderRequests);
+  }
+
+  @Test
+  void testCreateOrdersOversizedBatchDoesNotConsumeTokens() throws Exception {
+    var orderRequests = List.of(
+      new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withTitle("Test Book 1")),
+      new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withTitle("Test Book 2")));
+
+    doThrow(new InvalidRequestException("Batch size 2 exceeds the maximum of 1 orders"))
+      .when(batchOrdersService).validateBatchSize(2);
+
+    mockMvc.perform(post("/mosaic/orders/batch")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(JsonUtils.toJson(new MosaicOrderBatchRequest().orders(orderRequests))))
+      .andExpect(status().isBadRequest());
+
+    verify(orderRateLimiter, never()).acquire(anyInt());
+    verify(batchOrdersService, never()).createOrders(any());
+  }
+
+  @Test
+  void testCreateOrderRateLimited() throws Exception {
+    var orderRequest = new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withTitle("Test Book"));
+
+    doThrow(new TooManyRequestsException("tenant1", Duration.ofSeconds(3))).when(orderRateLimiter).acquire(1);
+
+    mockMvc.perform(post("/mosaic/orders")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(JsonUtils.toJson(orderRequest)))
+      .andExpect(status().isTooManyRequests())
+      .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"));
+
+    verify(ordersService, never()).createOrder(any(MosaicOrderRequest.class), any());
+  }
+
+  @Test
+  void testCreateOrderJob() throws Exception {
+    var orderRequest = new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withTitle("Test Book"));
+    var job = new MosaicOrderJob().id(UUID.randomUUID()).status(MosaicOrderJob.StatusEnum.PENDING);
+
+    when(orderJobService.submitJob(orderRequest)).thenReturn(job);
+
+    mockMvc.perform(post("/mosaic/orders/jobs")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(JsonUtils.toJson(orderRequest)))
+      .andExpect(status().isAccepted())
+      .andExpect(content().json(JsonUtils.toJson(job)));
+
+    verify(orderJobService).submitJob(orderRequest);
+  }
+
+  @Test
+  void testGetOrderJob() throws Exception {
+    var job = new MosaicOrderJob().id(UUID.randomUUID()).status(MosaicOrderJob.StatusEnum.COMPLETED).poLineNumber("10001-1");
+
+    when(orderJobService.getJob(job.getId())).thenReturn(job);
+
+    mockMvc.perform(get("/mosaic/orders/jobs/{jobId}", job.getId()))
+      .andExpect(status().isOk())
+      .andExpect(content().json(JsonUtils.toJson(job)));
+  }
+
+  @Test
+  void testGetOrderJobNotFound() throws Exception {
+    var jobId = UUID.randomUUID();
+
+    when(orderJobService.getJob(jobId)).thenThrow(new ResourceNotFoundException(MosaicOrderJob.class, jobId.toString()));
+
+    mockMvc.perform(get("/mosaic/orders/jobs/{jobId}", jobId))
+      .andExpect(status().isNotFound());
   }
 
   private static Stream<Arguments> createOrderExceptionProvider() {
@@ -0,0 +1,64 @@
+package org.folio.mosaic.metrics;
+
+import static org.folio.mosaic.metrics.OrderStageMetrics.Stage.ORDER_CREATE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStageMetricsTest {
+
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private OrderStageMetrics orderStageMetrics;
+
+  @BeforeEach
+  void setUp() {
+    orderStageMetrics = new OrderStageMetrics(meterRegistry, folioExecutionContext);
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+  }
+
+  @Test
+  void testRecordTagsStageByOutcome() {
+    orderStageMetrics.templateResolved("templateId");
+
+    var result = orderStageMetrics.record(ORDER_CREATE, "templateId", () -> "10001-1");
+    assertThrows(IllegalStateException.class, () -> orderStageMetrics.record(ORDER_CREATE, "templateId", () -> {
+      throw new IllegalStateException("mod-orders is unavailable");
+    }));
+
+    assertEquals("10001-1", result);
+    assertEquals(1, timerCount("success"));
+    assertEquals(1, timerCount("failure"));
+  }
+
+  @Test
+  void testRecordTagsUnresolvedTemplatesAsUnknown() {
+    orderStageMetrics.record(ORDER_CREATE, "UNKNOWN-CODE-1", () -> "10001-1");
+    orderStageMetrics.record(ORDER_CREATE, "UNKNOWN-CODE-2", () -> "10002-1");
+
+    assertEquals(2, timerCount("unknown", "success"));
+    assertEquals(1, meterRegistry.find(OrderStageMetrics.METRIC_NAME).timers().size());
+  }
+
+  private long timerCount(String outcome) {
+    return timerCount("templateId", outcome);
+  }
+
+  private long timerCount(String template, String outcome) {
+    return meterRegistry.get(OrderStageMetrics.METRIC_NAME)
+      .tags("stage", "order_create", "tenant", "tenant1", "template", template, "outcome", outcome)
+      .timer()
+      .count();
+  }
+}
@@ -0,0 +1,141 @@
+package org.folio.mosaic.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.domain.dto.MosaicOrderBatchResult;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
+import org.folio.mosaic.exception.InvalidRequestException;
+import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.util.error.ErrorCode;
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
+import org.folio.rest.acq.model.mosaic.MosaicOrderRequest;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orders.OrderTemplate;
+import org.folio.rest.acq.model.orders.PoLine;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class BatchOrdersServiceTest {
+
+  @Mock private OrdersService ordersService;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private OrdersProperties ordersProperties;
+  private BatchOrdersService batchOrdersService;
+
+  @BeforeEach
+  void setUp() {
+    ordersProperties = new OrdersProperties();
+    batchOrdersService = new BatchOrdersService(ordersService, ordersProperties, folioExecutionContext);
+  }
+
+  @Test
+  void testCreateOrdersResolvesEachTemplateOnce() {
+    var first = orderRequest("template-1", "Book 1");
+    var second = orderRequest("template-1", "Book 2");
+    var third = orderRequest("template-2", "Book 3");
+
+    var prototype = prototype();
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    when(ordersService.resolveTemplateId(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(ordersService.getOrderTemplatePrototype(any())).thenReturn(prototype);
+    when(ordersService.createOrder(first.getMosaicOrder(), "template-1", prototype)).thenReturn("10001-1");
+    when(ordersService.createOrder(second.getMosaicOrder(), "template-1", prototype)).thenReturn("10002-1");
+    when(ordersService.createOrder(third.getMosaicOrder(), "template-2", prototype)).thenReturn("10003-1");
+
+    var response = batchOrdersService.createOrders(List.of(first, second, third));
+
+    assertEquals(3, response.getTotalRecords());
+    assertEquals(List.of("10001-1", "10002-1", "10003-1"),
+      response.getResults().stream().map(MosaicOrderBatchResult::getPoLineNumber).toList());
+    verify(ordersService, times(1)).getOrderTemplatePrototype("template-1");
+    verify(ordersService, times(1)).getOrderTemplatePrototype("template-2");
+    verify(ordersService, times(1)).resolveTemplateId("template-1");
+  }
+
+  @Test
+  void testCreateOrdersReportsFailuresPerItem() {
+    var created = orderRequest("template-1", "Book 1");
+    var rejected = orderRequest("template-1", "Book 2");
+    var missingTemplate = orderRequest("missing", "Book 3");
+
+    var prototype = prototype();
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    when(ordersService.resolveTemplateId(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(ordersService.getOrderTemplatePrototype("template-1")).thenReturn(prototype);
+    when(ordersService.getOrderTemplatePrototype("missing")).thenThrow(new ResourceNotFoundException(OrderTemplate.class));
+    when(ordersService.createOrder(created.getMosaicOrder(), "template-1", prototype)).thenReturn("10001-1");
+    when(ordersService.createOrder(rejected.getMosaicOrder(), "template-1", prototype)).thenThrow(new RuntimeException("Failed"));
+
+    var response = batchOrdersService.createOrders(List.of(created, rejected, missingTemplate));
+
+    var results = response.getResults();
+    assertEquals(MosaicOrderBatchResult.StatusEnum.SUCCESS, results.get(0).getStatus());
+    assertNull(results.get(0).getError());
+    assertEquals(MosaicOrderBatchResult.StatusEnum.FAILED, results.get(1).getStatus());
+    assertEquals(ErrorCode.UNKNOWN_ERROR.getCode(), results.get(1).getError().getCode());
+    assertEquals(MosaicOrderBatchResult.StatusEnum.FAILED, results.get(2).getStatus());
+    assertEquals(ErrorCode.NOT_FOUND_ERROR.getCode(), results.get(2).getError().getCode());
+    verify(ordersService, never()).createOrder(eq(missingTemplate.getMosaicOrder()), any(), any());
+  }
+
+  @Test
+  void testCreateOrdersReportsTemplateIdResolutionFailurePerItem() {
+    var created = orderRequest("template-1", "Book 1");
+    var unresolved = orderRequest("UNKNOWN", "Book 2");
+
+    var prototype = prototype();
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    when(ordersService.resolveTemplateId("template-1")).thenReturn("template-1");
+    when(ordersService.resolveTemplateId("UNKNOWN")).thenThrow(new DownstreamUnavailableException("mod-orders", "circuit breaker is open"));
+    when(ordersService.getOrderTemplatePrototype("template-1")).thenReturn(prototype);
+    when(ordersService.createOrder(created.getMosaicOrder(), "template-1", prototype)).thenReturn("10001-1");
+
+    var response = batchOrdersService.createOrders(List.of(created, unresolved));
+
+    var results = response.getResults();
+    assertEquals(MosaicOrderBatchResult.StatusEnum.SUCCESS, results.get(0).getStatus());
+    assertEquals(MosaicOrderBatchResult.StatusEnum.FAILED, results.get(1).getStatus());
+    assertEquals(ErrorCode.SERVICE_UNAVAILABLE_ERROR.getCode(), results.get(1).getError().getCode());
+    verify(ordersService, never()).createOrder(eq(unresolved.getMosaicOrder()), any(), any());
+  }
+
+  @Test
+  void testCreateOrdersRejectsOversizedBatch() {
+    ordersProperties.getBatch().setMaxSize(1);
+    var orderRequests = Collections.nCopies(2, orderRequest("template-1", "Book"));
+
+    assertThrows(InvalidRequestException.class, () -> batchOrdersService.createOrders(orderRequests));
+    verify(ordersService, never()).createOrder(any(MosaicOrder.class), any(), any());
+  }
+
+  private static OrderTemplatePrototype prototype() {
+    return OrderTemplatePrototype.compile(Pair.of(new CompositePurchaseOrder(), new PoLine()), JsonMapper.builder().build());
+  }
+
+  private static MosaicOrderRequest orderRequest(String templateId, String title) {
+    return new MosaicOrderRequest()
+      .withOrderTemplateId(templateId)
+      .withMosaicOrder(new MosaicOrder().withTitle(title));
+  }
+}
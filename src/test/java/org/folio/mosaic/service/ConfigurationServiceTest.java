@@ -2,6 +2,8 @@ package org.folio.mosaic.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,18 +11,23 @@ import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 
+import org.folio.mosaic.cache.ConfigurationCache;
+import org.folio.mosaic.config.CacheProperties;
 import org.folio.mosaic.support.CopilotGenerated;
 import org.folio.mosaic.domain.entity.MosaicConfigurationEntity;
 import org.folio.mosaic.domain.mapper.MosaicConfigurationMapper;
 import org.folio.mosaic.exception.ResourceNotFoundException;
 import org.folio.mosaic.repository.ConfigurationRepository;
 import org.folio.rest.acq.model.mosaic.MosaicConfiguration;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @CopilotGenerated
 @ExtendWith(MockitoExtension.class)
 class ConfigurationServiceTest {
@@ -29,9 +36,18 @@ class ConfigurationServiceTest {
   private ConfigurationRepository configurationRepository;
   @Mock
   private MosaicConfigurationMapper mapper;
-  @InjectMocks
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+
   private ConfigurationService configurationService;
 
+  @BeforeEach
+  void setUp() {
+    lenient().when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+    var configurationCache = new ConfigurationCache(folioExecutionContext, new CacheProperties(), new SimpleMeterRegistry());
+    configurationService = new ConfigurationService(configurationRepository, mapper, configurationCache);
+  }
+
   @Test
   void testGetConfiguration() {
     MosaicConfigurationEntity entity = new MosaicConfigurationEntity();
@@ -47,6 +63,34 @@ class ConfigurationServiceTest {
     verify(mapper).toDto(entity);
   }
 
+  @Test
+  void testGetConfigurationReadsDatabaseOnce() {
+    MosaicConfigurationEntity entity = new MosaicConfigurationEntity();
+
+    when(configurationRepository.findAll()).thenReturn(List.of(entity));
+
+    configurationService.getConfiguration();
+    configurationService.getConfiguration();
+
+    verify(configurationRepository, times(1)).findAll();
+    verify(mapper, times(2)).toDto(entity);
+  }
+
+  @Test
+  void testUpdateConfigurationInvalidatesCachedConfiguration() {
+    MosaicConfiguration configuration = new MosaicConfiguration();
+    configuration.setDefaultTemplateId(UUID.randomUUID().toString());
+    MosaicConfigurationEntity entity = new MosaicConfigurationEntity();
+
+    when(configurationRepository.findAll()).thenReturn(List.of(entity));
+
+    configurationService.getConfiguration();
+    configurationService.updateConfiguration(configuration);
+    configurationService.getConfiguration();
+
+    verify(configurationRepository, times(3)).findAll();
+  }
+
   @Test
   void testGetConfigurationNotFound() {
     when(configurationRepository.findAll()).thenReturn(Collections.emptyList());
@@ -0,0 +1,126 @@
+package org.folio.mosaic.service;
+
+import static org.folio.rest.acq.model.mosaic.MosaicCustomFields.EntityType.PO_LINE;
+import static org.folio.rest.acq.model.mosaic.MosaicCustomFields.EntityType.PURCHASE_ORDER;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.folio.mosaic.cache.CustomFieldDefinitionsCache;
+import org.folio.mosaic.client.CustomFieldsClient;
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.exception.InvalidRequestException;
+import org.folio.rest.acq.model.mosaic.MosaicCustomFields;
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class CustomFieldsServiceTest {
+
+  private static final String DEFINITIONS = """
+    {"customFields": [
+      {"refId": "poField", "entityType": "purchase_order"},
+      {"refId": "polField", "entityType": "po_line"}
+    ]}""";
+
+  @Mock private CustomFieldsClient customFieldsClient;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+  private OrdersProperties ordersProperties;
+  private CustomFieldsService customFieldsService;
+
+  @BeforeEach
+  void setUp() {
+    ordersProperties = new OrdersProperties();
+    ordersProperties.getCustomFields().setValidationEnabled(true);
+    var cache = new CustomFieldDefinitionsCache(folioExecutionContext, new CacheProperties(), new SimpleMeterRegistry());
+    customFieldsService = new CustomFieldsService(customFieldsClient, cache, ordersProperties);
+    lenient().when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+  }
+
+  @Test
+  void testValidateAcceptsDefinedCustomFields() {
+    when(customFieldsClient.getCustomFields(anyString(), anyString(), anyInt(), anyInt()))
+      .thenReturn(objectMapper.readTree(DEFINITIONS));
+    var mosaicOrder = order(field("poField", PURCHASE_ORDER), field("polField", PO_LINE));
+
+    assertDoesNotThrow(() -> customFieldsService.validateCustomFields(mosaicOrder));
+    assertDoesNotThrow(() -> customFieldsService.validateCustomFields(mosaicOrder));
+
+    verify(customFieldsClient, times(1)).getCustomFields("mod-orders-storage",
+      "entityType==(purchase_order or po_line)", 0, 1000);
+  }
+
+  @Test
+  void testValidatePagesThroughAllDefinitions() {
+    when(customFieldsClient.getCustomFields(anyString(), anyString(), eq(0), anyInt()))
+      .thenReturn(objectMapper.readTree("""
+        {"customFields": [{"refId": "poField", "entityType": "purchase_order"}], "totalRecords": 2}"""));
+    when(customFieldsClient.getCustomFields(anyString(), anyString(), eq(1), anyInt()))
+      .thenReturn(objectMapper.readTree("""
+        {"customFields": [{"refId": "polField", "entityType": "po_line"}], "totalRecords": 2}"""));
+    var mosaicOrder = order(field("poField", PURCHASE_ORDER), field("polField", PO_LINE));
+
+    assertDoesNotThrow(() -> customFieldsService.validateCustomFields(mosaicOrder));
+
+    verify(customFieldsClient, times(2)).getCustomFields(anyString(), anyString(), anyInt(), anyInt());
+  }
+
+  @Test
+  void testValidateRejectsRefIdOfOtherEntityType() {
+    when(customFieldsClient.getCustomFields(anyString(), anyString(), anyInt(), anyInt()))
+      .thenReturn(objectMapper.readTree(DEFINITIONS));
+    var mosaicOrder = order(field("poField", PO_LINE));
+
+    assertThrows(InvalidRequestException.class, () -> customFieldsService.validateCustomFields(mosaicOrder));
+  }
+
+  @Test
+  void testValidateLeftToModOrdersWhenDefinitionsAreUnavailable() {
+    when(customFieldsClient.getCustomFields(anyString(), anyString(), anyInt(), anyInt()))
+      .thenThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not found", new HttpHeaders(), null, null));
+    var mosaicOrder = order(field("unknown", PO_LINE));
+
+    assertDoesNotThrow(() -> customFieldsService.validateCustomFields(mosaicOrder));
+  }
+
+  @Test
+  void testValidateSkippedWhenDisabled() {
+    ordersProperties.getCustomFields().setValidationEnabled(false);
+
+    customFieldsService.validateCustomFields(order(field("unknown", PO_LINE)));
+
+    verifyNoInteractions(customFieldsClient);
+  }
+
+  private static MosaicOrder order(MosaicCustomFields... customFields) {
+    return new MosaicOrder().withCustomFields(List.of(customFields));
+  }
+
+  private static MosaicCustomFields field(String refId, MosaicCustomFields.EntityType entityType) {
+    return new MosaicCustomFields().withRefId(refId).withEntityType(entityType).withAdditionalProperty("value", "value");
+  }
+}
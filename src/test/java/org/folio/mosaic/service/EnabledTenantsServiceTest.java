@@ -0,0 +1,56 @@
+package org.folio.mosaic.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.service.SystemUserScopedExecutionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class EnabledTenantsServiceTest {
+
+  @Mock private FolioModuleMetadata folioModuleMetadata;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Mock private SystemUserScopedExecutionService systemUserScopedExecutionService;
+
+  private EnabledTenantsService enabledTenantsService;
+
+  @BeforeEach
+  void setUp() {
+    enabledTenantsService = new EnabledTenantsService(folioModuleMetadata, jdbcTemplate, systemUserScopedExecutionService);
+  }
+
+  @Test
+  void testFindEnabledTenantsStripsModuleSchemaSuffix() {
+    when(folioModuleMetadata.getDBSchemaName("")).thenReturn("_mod_mosaic");
+    when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("%\\_mod\\_mosaic")))
+      .thenReturn(List.of("diku_mod_mosaic", "college_mod_mosaic", "_mod_mosaic"));
+
+    assertEquals(List.of("diku", "college"), enabledTenantsService.findEnabledTenants());
+  }
+
+  @Test
+  void testRunAsTenantRunsTaskAsSystemUser() {
+    when(systemUserScopedExecutionService.executeSystemUserScoped(eq("diku"), any()))
+      .thenAnswer(invocation -> invocation.getArgument(1, Callable.class).call());
+    var ran = new AtomicBoolean();
+
+    enabledTenantsService.runAsTenant("diku", () -> ran.set(true));
+
+    assertTrue(ran.get());
+  }
+}
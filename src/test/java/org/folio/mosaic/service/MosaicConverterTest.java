@@ -35,6 +35,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import tools.jackson.databind.ObjectMapper;
+
 @CopilotGenerated(model = "Claude 3.7 Sonnet Thinking")
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
 class MosaicConverterTest {
@@ -45,6 +47,9 @@ class MosaicConverterTest {
   @Autowired
   private MosaicOrderConverter mosaicOrderConverter;
 
+  @Autowired
+  private ObjectMapper objectMapper;
+
   @Test
   void testConvertToCompositePurchaseOrderWithTemplate() {
     var templateId = UUID.randomUUID().toString();
@@ -978,7 +983,7 @@ class MosaicConverterTest {
         .withQuantityElectronic(1));
 
     // Create poLine from template
-    var result = mosaicPoLineConverter.createPoLineFromTemplate(poLineTemplate);
+    var result = OrderTemplatePrototype.compile(Pair.of(new CompositePurchaseOrder(), poLineTemplate), objectMapper).newPoLine();
 
     // Verify electronic resource fields were properly mapped
     assertNotNull(result);
@@ -1452,7 +1457,7 @@ class MosaicConverterTest {
             .withProductIdType("ISBN")
             .withQualifier("Print"))));
 
-    var result = mosaicPoLineConverter.createPoLineFromTemplate(poLineTemplate);
+    var result = OrderTemplatePrototype.compile(Pair.of(new CompositePurchaseOrder(), poLineTemplate), objectMapper).newPoLine();
 
     assertBasicFields(poLineTemplate, result);
     assertContributors(poLineTemplate, result);
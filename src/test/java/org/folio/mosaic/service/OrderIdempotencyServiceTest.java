@@ -0,0 +1,225 @@
+package org.folio.mosaic.service;
+
+import static org.folio.mosaic.domain.entity.MosaicOrderIdempotencyEntity.Status.COMPLETED;
+import static org.folio.mosaic.domain.entity.MosaicOrderIdempotencyEntity.Status.IN_PROGRESS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
+import org.folio.mosaic.exception.ResourceAlreadyExistException;
+import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.repository.OrderIdempotencyRepository;
+import org.folio.mosaic.repository.OrderIdempotencyRepository.IdempotencyState;
+import org.folio.mosaic.service.OrderIdempotencyService.CreatedOrder;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orders.OrderTemplate;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyServiceTest {
+
+  private static final String KEY = "mosaic-order-id";
+
+  @Mock private OrderIdempotencyRepository orderIdempotencyRepository;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private OrdersProperties ordersProperties;
+  private OrderIdempotencyService orderIdempotencyService;
+
+  @BeforeEach
+  void setUp() {
+    ordersProperties = new OrdersProperties();
+    ordersProperties.getIdempotency().setPollInterval(Duration.ofMillis(10));
+    ordersProperties.getIdempotency().setWaitTimeout(Duration.ofMillis(200));
+    orderIdempotencyService = new OrderIdempotencyService(orderIdempotencyRepository, ordersProperties,
+      folioExecutionContext);
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+  }
+
+  @Test
+  void testCreateOrderReturnsStoredPoLineNumber() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY))
+      .thenReturn(Optional.of(new IdempotencyState(COMPLETED, "10001-1")));
+
+    var result = orderIdempotencyService.createOrder(KEY, CompositePurchaseOrder::new, order -> {
+      throw new AssertionError("The order must not be created again");
+    });
+
+    assertEquals("10001-1", result);
+    verify(orderIdempotencyRepository, never()).claim(anyString(), anyLong());
+  }
+
+  @Test
+  void testCreateOrderStoresCreatedOrder() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY)).thenReturn(Optional.empty());
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(1);
+
+    var result = orderIdempotencyService.createOrder(KEY, CompositePurchaseOrder::new,
+      order -> new CreatedOrder("po-id", "10001-1"));
+
+    assertEquals("10001-1", result);
+    verify(orderIdempotencyRepository).complete(KEY, "po-id", "10001-1");
+  }
+
+  @Test
+  void testCreateOrderReleasesKeyWhenOrderIsNotPrepared() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY)).thenReturn(Optional.empty());
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(1);
+
+    assertThrows(ResourceNotFoundException.class, () -> orderIdempotencyService.createOrder(KEY, () -> {
+      throw new ResourceNotFoundException(OrderTemplate.class);
+    }, order -> new CreatedOrder("po-id", "10001-1")));
+
+    verify(orderIdempotencyRepository).release(KEY);
+  }
+
+  @Test
+  void testCreateOrderReleasesKeyWhenCallIsRejected() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY)).thenReturn(Optional.empty());
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(1);
+
+    assertThrows(DownstreamUnavailableException.class, () -> orderIdempotencyService.createOrder(KEY,
+      CompositePurchaseOrder::new, order -> {
+        throw new DownstreamUnavailableException("mod-orders", "circuit breaker is open");
+      }));
+
+    verify(orderIdempotencyRepository).release(KEY);
+  }
+
+  @Test
+  void testCreateOrderReleasesKeyOnClientError() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY)).thenReturn(Optional.empty());
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(1);
+
+    assertThrows(HttpClientErrorException.class, () -> orderIdempotencyService.createOrder(KEY,
+      CompositePurchaseOrder::new, order -> {
+        throw HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_CONTENT, "Invalid order", new HttpHeaders(),
+          null, null);
+      }));
+
+    verify(orderIdempotencyRepository).release(KEY);
+  }
+
+  @Test
+  void testCreateOrderKeepsKeyClaimedWhenOutcomeIsUnknown() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY)).thenReturn(Optional.empty());
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(1);
+
+    assertThrows(ResourceAccessException.class, () -> orderIdempotencyService.createOrder(KEY,
+      CompositePurchaseOrder::new, order -> {
+        throw new ResourceAccessException("Read timed out");
+      }));
+    assertThrows(HttpServerErrorException.class, () -> orderIdempotencyService.createOrder(KEY,
+      CompositePurchaseOrder::new, order -> {
+        throw HttpServerErrorException.create(HttpStatus.INTERNAL_SERVER_ERROR, "Internal error", new HttpHeaders(),
+          null, null);
+      }));
+
+    verify(orderIdempotencyRepository, never()).release(anyString());
+  }
+
+  @Test
+  void testCreateOrderKeepsKeyClaimedWhenCompletionFails() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY)).thenReturn(Optional.empty());
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(1);
+    when(orderIdempotencyRepository.complete(KEY, "po-id", "10001-1"))
+      .thenThrow(new DataAccessResourceFailureException("Connection lost"));
+
+    assertThrows(DataAccessResourceFailureException.class, () -> orderIdempotencyService.createOrder(KEY,
+      CompositePurchaseOrder::new, order -> new CreatedOrder("po-id", "10001-1")));
+
+    verify(orderIdempotencyRepository, never()).release(anyString());
+  }
+
+  @Test
+  void testConcurrentDuplicatesCreateOrderOnce() throws Exception {
+    var storedState = new AtomicReference<IdempotencyState>();
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY))
+      .thenAnswer(invocation -> Optional.ofNullable(storedState.get()));
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(1);
+    when(orderIdempotencyRepository.complete(KEY, "po-id", "10001-1")).thenAnswer(invocation -> {
+      storedState.set(new IdempotencyState(COMPLETED, "10001-1"));
+      return 1;
+    });
+    var creations = new AtomicInteger();
+    var start = new CountDownLatch(1);
+
+    try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      var futures = new ArrayList<Future<String>>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return orderIdempotencyService.createOrder(KEY, CompositePurchaseOrder::new, order -> {
+            creations.incrementAndGet();
+            sleep();
+            return new CreatedOrder("po-id", "10001-1");
+          });
+        }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        assertEquals("10001-1", future.get());
+      }
+    }
+    assertEquals(1, creations.get());
+  }
+
+  @Test
+  void testCreateOrderWaitsForOtherInstance() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY)).thenReturn(
+      Optional.of(new IdempotencyState(IN_PROGRESS, null)),
+      Optional.of(new IdempotencyState(IN_PROGRESS, null)),
+      Optional.of(new IdempotencyState(COMPLETED, "10001-1")));
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(0);
+
+    var result = orderIdempotencyService.createOrder(KEY, CompositePurchaseOrder::new, order -> {
+      throw new AssertionError("The order must not be created again");
+    });
+
+    assertEquals("10001-1", result);
+  }
+
+  @Test
+  void testCreateOrderFailsWhenOtherInstanceDoesNotComplete() {
+    when(orderIdempotencyRepository.findStateByIdempotencyKey(KEY))
+      .thenReturn(Optional.of(new IdempotencyState(IN_PROGRESS, null)));
+    when(orderIdempotencyRepository.claim(KEY, 300)).thenReturn(0);
+
+    assertThrows(ResourceAlreadyExistException.class, () -> orderIdempotencyService.createOrder(KEY,
+      CompositePurchaseOrder::new, order -> new CreatedOrder("po-id", "10001-1")));
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
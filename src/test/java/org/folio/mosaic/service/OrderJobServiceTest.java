@@ -0,0 +1,196 @@
+package org.folio.mosaic.service;
+
+import static org.folio.mosaic.domain.entity.MosaicOrderJobEntity.Status.COMPLETED;
+import static org.folio.mosaic.domain.entity.MosaicOrderJobEntity.Status.FAILED;
+import static org.folio.mosaic.domain.entity.MosaicOrderJobEntity.Status.IN_PROGRESS;
+import static org.folio.mosaic.domain.entity.MosaicOrderJobEntity.Status.PENDING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.domain.dto.MosaicOrderJob;
+import org.folio.mosaic.domain.entity.MosaicOrderJobEntity;
+import org.folio.mosaic.domain.mapper.MosaicOrderJobMapper;
+import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.repository.OrderJobRepository;
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
+import org.folio.rest.acq.model.mosaic.MosaicOrderRequest;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OrderJobServiceTest {
+
+  @Mock private OrderJobRepository orderJobRepository;
+  @Mock private MosaicOrderJobMapper orderJobMapper;
+  @Mock private OrdersService ordersService;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private EnabledTenantsService enabledTenantsService;
+  @Mock private TaskExecutor orderJobExecutor;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+  private OrderJobService orderJobService;
+
+  @BeforeEach
+  void setUp() {
+    orderJobService = new OrderJobService(orderJobRepository, orderJobMapper, ordersService,
+      folioExecutionContext, enabledTenantsService, new OrdersProperties(), objectMapper, orderJobExecutor);
+  }
+
+  @Test
+  void testSubmitJobStoresPendingJobAndDispatchesWorker() {
+    var orderRequest = orderRequest("Test Book");
+    var jobDto = new MosaicOrderJob().status(MosaicOrderJob.StatusEnum.PENDING);
+    when(orderJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(orderJobMapper.toDto(any())).thenReturn(jobDto);
+
+    var result = orderJobService.submitJob(orderRequest);
+
+    var captor = ArgumentCaptor.forClass(MosaicOrderJobEntity.class);
+    verify(orderJobRepository).save(captor.capture());
+    assertEquals(PENDING, captor.getValue().getStatus());
+    assertEquals(orderRequest, objectMapper.readValue(captor.getValue().getOrderRequest(), MosaicOrderRequest.class));
+    assertEquals(jobDto, result);
+    verify(orderJobExecutor).execute(any());
+  }
+
+  @Test
+  void testSubmitJobKeepsJobPendingWhenWorkersAreBusy() {
+    var jobDto = new MosaicOrderJob().status(MosaicOrderJob.StatusEnum.PENDING);
+    when(orderJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(orderJobMapper.toDto(any())).thenReturn(jobDto);
+    doThrow(new TaskRejectedException("Queue is full")).when(orderJobExecutor).execute(any());
+
+    assertEquals(jobDto, orderJobService.submitJob(orderRequest("Test Book")));
+  }
+
+  @Test
+  void testGetJobThrowsWhenJobIsMissing() {
+    var jobId = UUID.randomUUID();
+    when(orderJobRepository.findById(jobId)).thenReturn(Optional.empty());
+
+    assertThrows(ResourceNotFoundException.class, () -> orderJobService.getJob(jobId));
+  }
+
+  @Test
+  void testDrainPendingJobsProcessesClaimedJobs() {
+    var completed = pendingJob(orderRequest("Book 1"));
+    var failed = pendingJob(orderRequest("Book 2"));
+    when(orderJobRepository.findFirstByStatusOrderByCreatedDateAsc(PENDING))
+      .thenReturn(Optional.of(completed), Optional.of(failed), Optional.empty());
+    when(orderJobRepository.updateStatus(any(), any(), any())).thenReturn(1);
+    when(ordersService.createOrder(any(MosaicOrderRequest.class), any()))
+      .thenReturn("10001-1")
+      .thenThrow(new RuntimeException("Failed"));
+
+    orderJobService.drainPendingJobs();
+
+    verify(ordersService).createOrder(any(MosaicOrderRequest.class), eq(completed.getId().toString()));
+
+    assertEquals(COMPLETED, completed.getStatus());
+    assertEquals("10001-1", completed.getPoLineNumber());
+    assertEquals(FAILED, failed.getStatus());
+    assertEquals("Failed", failed.getErrorMessage());
+    verify(orderJobRepository).save(completed);
+    verify(orderJobRepository).save(failed);
+  }
+
+  @Test
+  void testDrainPendingJobsSkipsJobsClaimedByOtherWorkers() {
+    var job = pendingJob(orderRequest("Book 1"));
+    when(orderJobRepository.findFirstByStatusOrderByCreatedDateAsc(PENDING))
+      .thenReturn(Optional.of(job), Optional.empty());
+    when(orderJobRepository.updateStatus(job.getId(), PENDING, IN_PROGRESS)).thenReturn(0);
+
+    orderJobService.drainPendingJobs();
+
+    verify(ordersService, never()).createOrder(any(MosaicOrderRequest.class), any());
+    verify(orderJobRepository, never()).save(any());
+  }
+
+  @Test
+  void testDrainPendingJobsKeysOrdersByMosaicOrderId() {
+    var job = pendingJob(new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withId("mosaic-order-id")));
+    when(orderJobRepository.findFirstByStatusOrderByCreatedDateAsc(PENDING))
+      .thenReturn(Optional.of(job), Optional.empty());
+    when(orderJobRepository.updateStatus(job.getId(), PENDING, IN_PROGRESS)).thenReturn(1);
+    when(ordersService.createOrder(any(MosaicOrderRequest.class), isNull())).thenReturn("10001-1");
+
+    orderJobService.drainPendingJobs();
+
+    assertEquals(COMPLETED, job.getStatus());
+  }
+
+  @Test
+  void testResumeJobsReclaimsStaleJobsAndDispatchesWorker() {
+    when(orderJobRepository.reclaimStaleJobs(600)).thenReturn(1);
+    when(orderJobRepository.existsByStatus(PENDING)).thenReturn(true);
+
+    orderJobService.resumeJobs();
+
+    verify(orderJobExecutor).execute(any());
+  }
+
+  @Test
+  void testResumeJobsSkipsDispatchWithoutPendingJobs() {
+    when(orderJobRepository.existsByStatus(PENDING)).thenReturn(false);
+
+    orderJobService.resumeJobs();
+
+    verify(orderJobExecutor, never()).execute(any());
+  }
+
+  @Test
+  void testResumeEnabledTenantsJobsRunsAsEveryTenant() {
+    when(enabledTenantsService.findEnabledTenants()).thenReturn(List.of("diku", "college"));
+
+    orderJobService.resumeEnabledTenantsJobs();
+
+    verify(enabledTenantsService).runAsTenant(eq("diku"), any());
+    verify(enabledTenantsService).runAsTenant(eq("college"), any());
+  }
+
+  @Test
+  void testResumeEnabledTenantsJobsContinuesWhenSystemUserLoginFails() {
+    when(enabledTenantsService.findEnabledTenants()).thenReturn(List.of("diku", "college"));
+    doThrow(new IllegalStateException("Failed to login system user"))
+      .when(enabledTenantsService).runAsTenant(eq("diku"), any());
+
+    orderJobService.resumeEnabledTenantsJobs();
+
+    verify(enabledTenantsService).runAsTenant(eq("college"), any());
+  }
+
+  private MosaicOrderJobEntity pendingJob(MosaicOrderRequest orderRequest) {
+    var job = new MosaicOrderJobEntity();
+    job.setId(UUID.randomUUID());
+    job.setStatus(PENDING);
+    job.setOrderRequest(objectMapper.writeValueAsString(orderRequest));
+    return job;
+  }
+
+  private static MosaicOrderRequest orderRequest(String title) {
+    return new MosaicOrderRequest().withMosaicOrder(new MosaicOrder().withTitle(title));
+  }
+}
@@ -0,0 +1,96 @@
+package org.folio.mosaic.service;
+
+import static org.folio.mosaic.service.OrderRateLimiter.THROTTLED_METRIC;
+import static org.folio.mosaic.service.OrderRateLimiter.TOKENS_METRIC;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.exception.TooManyRequestsException;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class OrderRateLimiterTest {
+
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
+
+  private OrdersProperties ordersProperties;
+  private SimpleMeterRegistry meterRegistry;
+  private OrderRateLimiter orderRateLimiter;
+
+  @BeforeEach
+  void setUp() {
+    ordersProperties = new OrdersProperties();
+    ordersProperties.getRateLimit().setEnabled(true);
+    ordersProperties.getRateLimit().setRate(0.1);
+    ordersProperties.getRateLimit().setBurst(3);
+    meterRegistry = new SimpleMeterRegistry();
+    orderRateLimiter = new OrderRateLimiter(folioExecutionContext, ordersProperties, meterRegistry);
+  }
+
+  @Test
+  void testAcquireRejectsOrdersBeyondBurst() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+
+    orderRateLimiter.acquire(2);
+    orderRateLimiter.acquire(1);
+    var exception = assertThrows(TooManyRequestsException.class, () -> orderRateLimiter.acquire(1));
+
+    assertTrue(exception.getRetryAfter().toSeconds() >= 9);
+    assertEquals(1.0, meterRegistry.get(THROTTLED_METRIC).tag("tenant", "tenant1").counter().count());
+    assertTrue(meterRegistry.get(TOKENS_METRIC).tag("tenant", "tenant1").gauge().value() < 1);
+  }
+
+  @Test
+  void testAcquireLimitsTenantsIndependently() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1", "tenant2");
+
+    orderRateLimiter.acquire(3);
+
+    assertDoesNotThrow(() -> orderRateLimiter.acquire(3));
+  }
+
+  @Test
+  void testAcquireChargesEveryOrderOfBatchBeyondBurst() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+
+    assertDoesNotThrow(() -> orderRateLimiter.acquire(100));
+    var exception = assertThrows(TooManyRequestsException.class, () -> orderRateLimiter.acquire(1));
+
+    // the 97 orders beyond the burst are paid back at 0.1 per second before the next order passes
+    assertTrue(exception.getRetryAfter().toSeconds() >= 980);
+    assertTrue(meterRegistry.get(TOKENS_METRIC).tag("tenant", "tenant1").gauge().value() < -96);
+  }
+
+  @Test
+  void testAcquireRejectsBatchBeyondBurstUntilBucketFull() {
+    when(folioExecutionContext.getTenantId()).thenReturn("tenant1");
+
+    orderRateLimiter.acquire(1);
+    var exception = assertThrows(TooManyRequestsException.class, () -> orderRateLimiter.acquire(100));
+
+    assertTrue(exception.getRetryAfter().toSeconds() >= 9);
+  }
+
+  @Test
+  void testAcquireDoesNothingWhenDisabled() {
+    ordersProperties.getRateLimit().setEnabled(false);
+
+    for (int i = 0; i < 10; i++) {
+      orderRateLimiter.acquire(1);
+    }
+
+    assertTrue(meterRegistry.find(THROTTLED_METRIC).counters().isEmpty());
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.mosaic.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.folio.mosaic.config.OrdersProperties;
+import org.folio.mosaic.repository.OrderIdempotencyRepository;
+import org.folio.mosaic.repository.OrderJobRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderRetentionServiceTest {
+
+  @Mock private OrderIdempotencyRepository orderIdempotencyRepository;
+  @Mock private OrderJobRepository orderJobRepository;
+  @Mock private EnabledTenantsService enabledTenantsService;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final OrdersProperties ordersProperties = new OrdersProperties();
+  private OrderRetentionService orderRetentionService;
+
+  @BeforeEach
+  void setUp() {
+    orderRetentionService = new OrderRetentionService(orderIdempotencyRepository, orderJobRepository,
+      enabledTenantsService, ordersProperties, folioExecutionContext);
+  }
+
+  @Test
+  void testDeleteExpiredUsesConfiguredRetention() {
+    ordersProperties.getRetention().setIdempotencyKeys(Duration.ofDays(2));
+    ordersProperties.getRetention().setJobs(Duration.ofHours(12));
+
+    orderRetentionService.deleteExpired();
+
+    verify(orderIdempotencyRepository).deleteExpired(Duration.ofDays(2).toSeconds());
+    verify(orderJobRepository).deleteExpiredJobs(Duration.ofHours(12).toSeconds());
+  }
+
+  @Test
+  void testDeleteExpiredOfEnabledTenantsContinuesAfterFailingTenant() {
+    when(enabledTenantsService.findEnabledTenants()).thenReturn(List.of("diku", "college"));
+    doThrow(new IllegalStateException("Failed to login system user"))
+      .when(enabledTenantsService).runAsTenant(eq("diku"), any());
+
+    orderRetentionService.deleteExpiredOfEnabledTenants();
+
+    verify(enabledTenantsService).runAsTenant(eq("college"), any());
+  }
+}
@@ -0,0 +1,92 @@
+package org.folio.mosaic.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.folio.mosaic.cache.TemplateCodeIndexCache;
+import org.folio.mosaic.client.OrdersClient;
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OrderTemplateCodeServiceTest {
+
+  private static final String TEMPLATE_ID = "c3dbb1a2-6e55-4bb1-9c8c-4bfd3a0d8e85";
+  private static final String OTHER_TEMPLATE_ID = "5f1e6a4b-1c1d-4b8e-9a43-1f0f4c6f8d21";
+  private static final String ALL_TEMPLATES_QUERY = "cql.allRecords=1";
+
+  @Mock private OrdersClient ordersClient;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+  private OrderTemplateCodeService orderTemplateCodeService;
+
+  @BeforeEach
+  void setUp() {
+    var templateCodeIndexCache = new TemplateCodeIndexCache(folioExecutionContext, new CacheProperties(),
+      new SimpleMeterRegistry(), Runnable::run);
+    orderTemplateCodeService = new OrderTemplateCodeService(ordersClient, templateCodeIndexCache);
+  }
+
+  @Test
+  void testResolveTemplateIdReturnsUuidAsIs() {
+    assertEquals(TEMPLATE_ID, orderTemplateCodeService.resolveTemplateId(TEMPLATE_ID));
+
+    verifyNoInteractions(ordersClient);
+  }
+
+  @Test
+  void testResolveTemplateIdResolvesCodesFromSingleQuery() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    when(ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, 0, 1000)).thenReturn(templates());
+
+    assertEquals(TEMPLATE_ID, orderTemplateCodeService.resolveTemplateId("MOSAIC"));
+    assertEquals(OTHER_TEMPLATE_ID, orderTemplateCodeService.resolveTemplateId("SERIALS"));
+
+    verify(ordersClient).getOrderTemplates(anyString(), anyInt(), anyInt());
+  }
+
+  @Test
+  void testResolveTemplateIdReturnsUnknownCodeAsIs() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    when(ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, 0, 1000)).thenReturn(templates());
+
+    assertEquals("UNKNOWN", orderTemplateCodeService.resolveTemplateId("UNKNOWN"));
+  }
+
+  @Test
+  void testInvalidateRebuildsIndex() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    when(ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, 0, 1000)).thenReturn(templates());
+
+    orderTemplateCodeService.resolveTemplateId("MOSAIC");
+    orderTemplateCodeService.invalidate();
+    orderTemplateCodeService.resolveTemplateId("MOSAIC");
+
+    verify(ordersClient, times(2)).getOrderTemplates(anyString(), anyInt(), anyInt());
+  }
+
+  private JsonNode templates() {
+    var page = objectMapper.createObjectNode();
+    var templates = page.putArray("orderTemplates");
+    templates.addObject().put("id", TEMPLATE_ID).put("templateCode", "MOSAIC");
+    templates.addObject().put("id", OTHER_TEMPLATE_ID).put("templateCode", "SERIALS");
+    templates.addObject().put("id", "0d9a6e49-3b51-4c8b-8b4c-e4c1b1a1e0a7");
+    return page.put("totalRecords", 3);
+  }
+}
@@ -0,0 +1,226 @@
+package org.folio.mosaic.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.folio.mosaic.cache.OrderTemplateCache;
+import org.folio.mosaic.cache.TemplateCodeIndexCache;
+import org.folio.mosaic.client.OrdersClient;
+import org.folio.mosaic.config.TemplateMirrorProperties;
+import org.folio.mosaic.repository.OrderTemplateRepository;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+@ExtendWith(MockitoExtension.class)
+class OrderTemplateMirrorServiceTest {
+
+  private static final UUID TEMPLATE_ID = UUID.fromString("c3dbb1a2-6e55-4bb1-9c8c-4bfd3a0d8e85");
+  private static final String UPDATED_DATE = "2026-10-01T10:15:30.000+00:00";
+  private static final String SORT_BY = " sortBy metadata.updatedDate/sort.ascending id/sort.ascending";
+  private static final String ALL_TEMPLATES_QUERY = "cql.allRecords=1" + SORT_BY;
+
+  @Mock private OrderTemplateRepository orderTemplateRepository;
+  @Mock private OrdersClient ordersClient;
+  @Mock private OrderTemplateCache orderTemplateCache;
+  @Mock private TemplateCodeIndexCache templateCodeIndexCache;
+  @Mock private EnabledTenantsService enabledTenantsService;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+  private TemplateMirrorProperties properties;
+  private OrderTemplateMirrorService orderTemplateMirrorService;
+
+  @BeforeEach
+  void setUp() {
+    properties = new TemplateMirrorProperties();
+    properties.setPageSize(2);
+    orderTemplateMirrorService = new OrderTemplateMirrorService(orderTemplateRepository, ordersClient,
+      orderTemplateCache, templateCodeIndexCache, enabledTenantsService, properties, folioExecutionContext, objectMapper);
+  }
+
+  @Test
+  void testFindReturnsMirroredTemplate() {
+    when(orderTemplateRepository.findTemplateById(TEMPLATE_ID))
+      .thenReturn(Optional.of("{\"id\":\"%s\"}".formatted(TEMPLATE_ID)));
+
+    var result = orderTemplateMirrorService.find(TEMPLATE_ID.toString());
+
+    assertEquals(TEMPLATE_ID.toString(), result.path("id").asString());
+  }
+
+  @Test
+  void testFindSkipsMirrorForNonUuidTemplateId() {
+    assertNull(orderTemplateMirrorService.find("template-123"));
+
+    verifyNoInteractions(orderTemplateRepository);
+  }
+
+  @Test
+  void testFindReturnsNullWhenMirrorFails() {
+    when(orderTemplateRepository.findTemplateById(TEMPLATE_ID))
+      .thenThrow(new DataAccessResourceFailureException("Connection refused"));
+
+    assertNull(orderTemplateMirrorService.find(TEMPLATE_ID.toString()));
+  }
+
+  @Test
+  void testSaveStoresTemplateWithUpdatedDate() {
+    orderTemplateMirrorService.save(template(TEMPLATE_ID));
+
+    verify(orderTemplateRepository).upsert(eq(TEMPLATE_ID), anyString(), eq(OffsetDateTime.parse(UPDATED_DATE)));
+  }
+
+  @Test
+  void testSyncTenantFullSyncPagesAndDropsDeletedTemplates() {
+    var secondId = UUID.randomUUID();
+    var thirdId = UUID.randomUUID();
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    when(ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, 0, 2)).thenReturn(page(TEMPLATE_ID, secondId));
+    when(ordersClient.getOrderTemplates(nextPageQuery(secondId), 0, 2)).thenReturn(page(thirdId));
+    when(orderTemplateRepository.upsert(any(), anyString(), any())).thenReturn(0);
+    when(orderTemplateRepository.upsert(eq(secondId), anyString(), any())).thenReturn(1);
+
+    orderTemplateMirrorService.syncTenant();
+
+    verify(orderTemplateCache).invalidate(secondId.toString());
+    verify(orderTemplateCache, never()).invalidate(TEMPLATE_ID.toString());
+    verify(templateCodeIndexCache).invalidate();
+    verify(orderTemplateRepository).deleteByIdNotIn(Set.of(TEMPLATE_ID, secondId, thirdId));
+  }
+
+  @Test
+  void testSyncTenantKeepsTemplatesWhenPagesCannotBeWalked() {
+    var secondId = UUID.randomUUID();
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var page = page(TEMPLATE_ID, secondId);
+    ((ObjectNode) page.path("orderTemplates").get(1)).remove("metadata");
+    when(ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, 0, 2)).thenReturn(page);
+
+    orderTemplateMirrorService.syncTenant();
+
+    verify(ordersClient).getOrderTemplates(anyString(), anyInt(), anyInt());
+    verify(orderTemplateRepository, never()).deleteByIdNotIn(any());
+    verify(orderTemplateRepository, never()).deleteAllInBatch();
+  }
+
+  @Test
+  void testSyncTenantStopsWhenPageDoesNotAdvance() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    var secondId = UUID.randomUUID();
+    when(ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, 0, 2)).thenReturn(page(TEMPLATE_ID, secondId));
+    when(ordersClient.getOrderTemplates(nextPageQuery(secondId), 0, 2)).thenReturn(page(TEMPLATE_ID, secondId));
+
+    orderTemplateMirrorService.syncTenant();
+
+    verify(ordersClient).getOrderTemplates(nextPageQuery(secondId), 0, 2);
+    verify(orderTemplateRepository, never()).deleteByIdNotIn(any());
+  }
+
+  @Test
+  void testSyncTenantIsIncrementalAfterFullSync() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    when(ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, 0, 2)).thenReturn(page(TEMPLATE_ID));
+    var incrementalQuery = "metadata.updatedDate>=\"%s\"".formatted(UPDATED_DATE) + SORT_BY;
+    when(ordersClient.getOrderTemplates(incrementalQuery, 0, 2)).thenReturn(page());
+
+    orderTemplateMirrorService.syncTenant();
+    orderTemplateMirrorService.syncTenant();
+
+    verify(ordersClient).getOrderTemplates(incrementalQuery, 0, 2);
+    verify(orderTemplateRepository).deleteByIdNotIn(Set.of(TEMPLATE_ID));
+  }
+
+  @Test
+  void testSyncTenantWatermarkNotAdvancedByWriteThrough() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    when(ordersClient.getOrderTemplates(ALL_TEMPLATES_QUERY, 0, 2)).thenReturn(page(TEMPLATE_ID));
+    var incrementalQuery = "metadata.updatedDate>=\"%s\"".formatted(UPDATED_DATE) + SORT_BY;
+    when(ordersClient.getOrderTemplates(incrementalQuery, 0, 2)).thenReturn(page());
+
+    orderTemplateMirrorService.syncTenant();
+    var newerTemplate = objectMapper.createObjectNode().put("id", UUID.randomUUID().toString());
+    newerTemplate.putObject("metadata").put("updatedDate", "2026-10-02T10:15:30.000+00:00");
+    orderTemplateMirrorService.save(newerTemplate);
+    orderTemplateMirrorService.syncTenant();
+
+    verify(ordersClient).getOrderTemplates(incrementalQuery, 0, 2);
+  }
+
+  @Test
+  void testSyncEnabledTenantsContinuesWhenSystemUserLoginFails() {
+    when(enabledTenantsService.findEnabledTenants()).thenReturn(List.of("diku", "college"));
+    doThrow(new IllegalStateException("Failed to login system user"))
+      .when(enabledTenantsService).runAsTenant(eq("diku"), any());
+
+    orderTemplateMirrorService.syncEnabledTenants();
+
+    verify(enabledTenantsService).runAsTenant(eq("college"), any());
+  }
+
+  @Test
+  void testSyncTenantDoesNothingWhenDisabled() {
+    properties.setEnabled(false);
+
+    orderTemplateMirrorService.syncTenant();
+
+    verifyNoInteractions(ordersClient, orderTemplateRepository);
+  }
+
+  @Test
+  void testSyncTenantLogsFailures() {
+    when(folioExecutionContext.getTenantId()).thenReturn("diku");
+    when(ordersClient.getOrderTemplates(anyString(), anyInt(), anyInt()))
+      .thenThrow(new IllegalStateException("mod-orders is down"));
+
+    orderTemplateMirrorService.syncTenant();
+
+    verify(orderTemplateRepository, never()).deleteByIdNotIn(any());
+  }
+
+  private static String nextPageQuery(UUID lastId) {
+    return "(cql.allRecords=1) and (metadata.updatedDate>\"%1$s\" or (metadata.updatedDate>=\"%1$s\" and id>\"%2$s\"))"
+      .formatted(UPDATED_DATE, lastId) + SORT_BY;
+  }
+
+  private JsonNode page(UUID... ids) {
+    var page = objectMapper.createObjectNode();
+    var templates = page.putArray("orderTemplates");
+    for (var id : ids) {
+      templates.add(template(id));
+    }
+    return page.put("totalRecords", ids.length);
+  }
+
+  private JsonNode template(UUID id) {
+    var template = objectMapper.createObjectNode()
+      .put("id", id.toString())
+      .put("templateName", "Template " + id);
+    template.putObject("metadata").put("updatedDate", UPDATED_DATE);
+    return template;
+  }
+}
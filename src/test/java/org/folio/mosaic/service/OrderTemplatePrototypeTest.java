@@ -0,0 +1,89 @@
+package org.folio.mosaic.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orders.Cost;
+import org.folio.rest.acq.model.orders.FundDistribution;
+import org.folio.rest.acq.model.orders.OrderFormat;
+import org.folio.rest.acq.model.orders.Physical;
+import org.folio.rest.acq.model.orders.PoLine;
+import org.junit.jupiter.api.Test;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class OrderTemplatePrototypeTest {
+
+  private static final String TEMPLATE_ID = "template-id";
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+  @Test
+  void testNewOrderCreatesIndependentClones() {
+    var prototype = OrderTemplatePrototype.compile(template(), objectMapper);
+
+    var first = prototype.newOrder();
+    var second = prototype.newOrder();
+    var firstPoLine = first.getPoLines().getFirst();
+    var secondPoLine = second.getPoLines().getFirst();
+    firstPoLine.getCost().setListUnitPrice(99.0);
+    firstPoLine.getPhysical().setMaterialType("changed");
+
+    assertEquals(TEMPLATE_ID, first.getTemplate());
+    assertNotEquals(first.getId(), second.getId());
+    assertNotEquals(firstPoLine.getId(), secondPoLine.getId());
+    assertNotSame(firstPoLine.getCost(), secondPoLine.getCost());
+    assertEquals(10.0, secondPoLine.getCost().getListUnitPrice());
+    assertEquals("book", secondPoLine.getPhysical().getMaterialType());
+    assertEquals(PoLine.Source.API, secondPoLine.getSource());
+  }
+
+  @Test
+  void testNewOrderSharesFrozenCollections() {
+    var prototype = OrderTemplatePrototype.compile(template(), objectMapper);
+
+    var order = prototype.newOrder();
+    var fundDistribution = order.getPoLines().getFirst().getFundDistribution();
+
+    assertThrows(UnsupportedOperationException.class, () -> order.getAcqUnitIds().add("unit-2"));
+    assertThrows(UnsupportedOperationException.class, () -> fundDistribution.add(new FundDistribution()));
+  }
+
+  @Test
+  void testCompileLeavesTemplateUntouched() {
+    var template = template();
+    var prototype = OrderTemplatePrototype.compile(template, objectMapper);
+
+    template.getKey().getAcqUnitIds().add("unit-2");
+    template.getValue().getCost().setListUnitPrice(99.0);
+    var templatePair = prototype.toTemplatePair();
+    templatePair.getKey().getAcqUnitIds().add("unit-3");
+
+    var order = prototype.newOrder();
+    assertEquals(List.of("unit-1"), order.getAcqUnitIds());
+    assertEquals(10.0, order.getPoLines().getFirst().getCost().getListUnitPrice());
+    assertEquals(TEMPLATE_ID, templatePair.getKey().getId());
+  }
+
+  private static Pair<CompositePurchaseOrder, PoLine> template() {
+    var order = new CompositePurchaseOrder()
+      .withId(TEMPLATE_ID)
+      .withOrderType(CompositePurchaseOrder.OrderType.ONE_TIME)
+      .withAcqUnitIds(new ArrayList<>(List.of("unit-1")));
+    var poLine = new PoLine()
+      .withTitleOrPackage("Template title")
+      .withOrderFormat(OrderFormat.PHYSICAL_RESOURCE)
+      .withCost(new Cost().withListUnitPrice(10.0).withCurrency("USD").withQuantityPhysical(1))
+      .withPhysical(new Physical().withMaterialType("book"))
+      .withFundDistribution(new ArrayList<>(List.of(new FundDistribution().withCode("FUND"))));
+    return Pair.of(order, poLine);
+  }
+}
@@ -4,19 +4,32 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withResourceNotFound;
 
-import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.folio.mosaic.cache.OrderTemplateCache;
 import org.folio.mosaic.client.OrdersClient;
+import org.folio.mosaic.exception.DownstreamUnavailableException;
 import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.metrics.OrderStageMetrics;
+import org.folio.mosaic.service.OrderIdempotencyService.CreatedOrder;
 import org.folio.mosaic.support.CopilotGenerated;
 import org.folio.rest.acq.model.mosaic.MosaicOrder;
 import org.folio.rest.acq.model.mosaic.MosaicOrderRequest;
@@ -24,22 +37,48 @@ import org.folio.rest.acq.model.mosaic.MosaicConfiguration;
 import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
 import org.folio.rest.acq.model.orders.OrderTemplate;
 import org.folio.rest.acq.model.orders.PoLine;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @CopilotGenerated(model = "Claude 3.7 Sonnet Thinking")
 class OrdersServiceTest {
 
   @Mock private OrdersClient ordersClient;
+  @Mock private OrderTemplateCache orderTemplateCache;
+  @Mock private OrderTemplateMirrorService orderTemplateMirror;
+  @Mock private OrderTemplateCodeService orderTemplateCodeService;
+  @Mock private OrganizationService organizationService;
+  @Mock private OrderIdempotencyService orderIdempotencyService;
   @Mock private ConfigurationService configurationService;
+  @Mock private CustomFieldsService customFieldsService;
   @Mock private MosaicOrderConverter orderConverter;
-  @Mock private ObjectMapper objectMapper;
+  @Spy private OrderStageMetrics orderStageMetrics =
+    new OrderStageMetrics(new SimpleMeterRegistry(), mock(FolioExecutionContext.class));
+  @Spy private ObjectMapper objectMapper = JsonMapper.builder()
+    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+    .build();
   @InjectMocks private OrdersService ordersService;
 
+  @BeforeEach
+  void setUp() {
+    lenient().when(orderTemplateCodeService.resolveTemplateId(any())).thenAnswer(invocation -> invocation.getArgument(0));
+  }
+
   @Test
   @SuppressWarnings("unchecked")
   void testCreateOrderProvidedTemplateId() throws Exception {
@@ -47,19 +86,14 @@ class OrdersServiceTest {
     var templateId = "templateId";
     var orderRequest = createOrderRequest(templateId, "Test Order");
 
-    var compositeTemplate = new CompositePurchaseOrder();
-    compositeTemplate.setId("orderId");
-    var poLineTemplate = new PoLine();
-    poLineTemplate.setId("poLineId");
-
-    setupMockResponse(templateId, compositeTemplate, poLineTemplate);
+    setupMockResponse(templateId, "{\"id\": \"orderId\"}");
 
     var expectedCompositeOrder = new CompositePurchaseOrder();
     var poLine = new PoLine();
     poLine.setPoLineNumber("POL12345");
     expectedCompositeOrder.setPoLines(List.of(poLine));
-    when(orderConverter.convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any())).thenReturn(expectedCompositeOrder);
-    when(ordersClient.createOrder(expectedCompositeOrder)).thenReturn(expectedCompositeOrder);
+    when(orderConverter.convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any(OrderTemplatePrototype.class))).thenReturn(expectedCompositeOrder);
+    when(ordersClient.createOrderAsResponse(expectedCompositeOrder)).thenReturn(createdOrderResponse("orderId", "POL12345"));
 
     // When
     var result = ordersService.createOrder(orderRequest);
@@ -67,8 +101,57 @@ class OrdersServiceTest {
     // Then
     assertEquals("POL12345", result);
     verify(ordersClient).getOrderTemplateAsResponse(templateId);
-    verify(orderConverter).convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any());
-    verify(ordersClient).createOrder(expectedCompositeOrder);
+    verify(orderConverter).convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any(OrderTemplatePrototype.class));
+    verify(ordersClient).createOrderAsResponse(expectedCompositeOrder);
+  }
+
+  @Test
+  void testCreateOrderResolvesVendorCode() {
+    // Given
+    var templateId = "templateId";
+    var orderRequest = createOrderRequest(templateId, "Test Order");
+    orderRequest.getMosaicOrder().setVendor("AMAZ");
+    setupMockResponse(templateId, "{\"id\": \"orderId\"}");
+    when(organizationService.resolveVendorId("AMAZ")).thenReturn("e0fb5df2-cdf1-11e8-a8d5-f2801f1b9fd1");
+
+    var compositeOrder = new CompositePurchaseOrder();
+    when(orderConverter.convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any(OrderTemplatePrototype.class))).thenReturn(compositeOrder);
+    when(ordersClient.createOrderAsResponse(compositeOrder)).thenReturn(createdOrderResponse("orderId", "POL12345"));
+
+    // When
+    ordersService.createOrder(orderRequest);
+
+    // Then
+    assertEquals("e0fb5df2-cdf1-11e8-a8d5-f2801f1b9fd1", orderRequest.getMosaicOrder().getVendor());
+  }
+
+  @Test
+  void testCreateOrderReadsFirstPoLineNumberFromStreamedResponse() {
+    // Given
+    var templateId = "templateId";
+    var orderRequest = createOrderRequest(templateId, "Test Order");
+    setupMockResponse(templateId, "{\"id\": \"orderId\"}");
+
+    var compositeOrder = new CompositePurchaseOrder();
+    when(orderConverter.convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any(OrderTemplatePrototype.class))).thenReturn(compositeOrder);
+    var response = """
+      {
+        "poLines": [
+          {"id": "line-1", "locations": [{"locationId": "loc-1", "quantity": 1}], "cost": {"poLineNumber": "nested"},
+           "fundDistribution": [{"code": "FUND", "value": 100}], "poLineNumber": "POL12345"},
+          {"id": "line-2", "poLineNumber": "POL12346"}
+        ],
+        "notes": ["note"],
+        "id": "orderId"
+      }""";
+    when(ordersClient.createOrderAsResponse(compositeOrder))
+      .thenReturn(new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+
+    // When
+    var result = ordersService.createOrder(orderRequest);
+
+    // Then
+    assertEquals("POL12345", result);
   }
 
   @Test
@@ -80,19 +163,14 @@ class OrdersServiceTest {
 
     when(configurationService.getConfiguration()).thenReturn(new MosaicConfiguration().withDefaultTemplateId(defaultTemplateId));
 
-    var compositeTemplate = new CompositePurchaseOrder();
-    compositeTemplate.setId("orderId");
-    var poLineTemplate = new PoLine();
-    poLineTemplate.setId("poLineId");
-
-    setupMockResponse(defaultTemplateId, compositeTemplate, poLineTemplate);
+    setupMockResponse(defaultTemplateId, "{\"id\": \"orderId\"}");
 
     var expectedCompositeOrder = new CompositePurchaseOrder();
     var poLine = new PoLine();
     poLine.setPoLineNumber("POL12345");
     expectedCompositeOrder.setPoLines(List.of(poLine));
-    when(orderConverter.convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any())).thenReturn(expectedCompositeOrder);
-    when(ordersClient.createOrder(expectedCompositeOrder)).thenReturn(expectedCompositeOrder);
+    when(orderConverter.convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any(OrderTemplatePrototype.class))).thenReturn(expectedCompositeOrder);
+    when(ordersClient.createOrderAsResponse(expectedCompositeOrder)).thenReturn(createdOrderResponse("orderId", "POL12345"));
 
     // When
     var result = ordersService.createOrder(orderRequest);
@@ -101,8 +179,8 @@ class OrdersServiceTest {
     assertEquals("POL12345", result);
     verify(configurationService).getConfiguration();
     verify(ordersClient).getOrderTemplateAsResponse(defaultTemplateId);
-    verify(orderConverter).convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any());
-    verify(ordersClient).createOrder(expectedCompositeOrder);
+    verify(orderConverter).convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any(OrderTemplatePrototype.class));
+    verify(ordersClient).createOrderAsResponse(expectedCompositeOrder);
   }
 
   @Test
@@ -112,16 +190,82 @@ class OrdersServiceTest {
     var templateId = "templateId";
     var orderRequest = createOrderRequest(templateId, "Test Order");
 
-    // Setup mock to return order without ID (triggers ResourceNotFoundException)
-    var compositeTemplateWithoutId = new CompositePurchaseOrder(); // id is null
-    var poLineTemplate = new PoLine();
-    setupMockResponse(templateId, compositeTemplateWithoutId, poLineTemplate);
+    // Setup mock to return template without ID (triggers ResourceNotFoundException)
+    setupMockResponse(templateId, "{\"orderType\": \"One-Time\"}");
 
     // When & Then
     assertThrows(ResourceNotFoundException.class, () -> ordersService.createOrder(orderRequest));
 
     verify(ordersClient).getOrderTemplateAsResponse(templateId);
-    verify(objectMapper, atLeast(2)).readValue(any(byte[].class), any(TypeReference.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testCreateOrderWithIdempotencyKey() {
+    // Given
+    var templateId = "templateId";
+    var orderRequest = createOrderRequest(templateId, "Test Order");
+    orderRequest.getMosaicOrder().setId("mosaic-order-id");
+
+    setupMockResponse(templateId, "{\"id\": \"orderId\"}");
+
+    var poLine = new PoLine();
+    poLine.setPoLineNumber("POL12345");
+    var createdOrder = new CompositePurchaseOrder().withId("mosaic-order-id").withPoLines(List.of(poLine));
+    when(orderConverter.convertToCompositePurchaseOrder(eq(orderRequest.getMosaicOrder()), any(OrderTemplatePrototype.class))).thenReturn(createdOrder);
+    when(ordersClient.createOrderAsResponse(createdOrder)).thenReturn(createdOrderResponse("mosaic-order-id", "POL12345"));
+    when(orderIdempotencyService.createOrder(eq("key:request-key"), any(), any()))
+      .thenAnswer(invocation -> {
+        Supplier<CompositePurchaseOrder> orderPreparer = invocation.getArgument(1);
+        Function<CompositePurchaseOrder, CreatedOrder> orderCreator = invocation.getArgument(2);
+        return orderCreator.apply(orderPreparer.get()).poLineNumber();
+      });
+
+    // When
+    var result = ordersService.createOrder(orderRequest, "request-key");
+
+    // Then
+    assertEquals("POL12345", result);
+    verify(orderIdempotencyService, never()).createOrder(eq("order:mosaic-order-id"), any(), any());
+  }
+
+  @Test
+  void testCreateOrderUsesMosaicOrderIdAsIdempotencyKey() {
+    // Given
+    var orderRequest = createOrderRequest("templateId", "Test Order");
+    orderRequest.getMosaicOrder().setId("mosaic-order-id");
+    when(orderIdempotencyService.createOrder(eq("order:mosaic-order-id"), any(), any())).thenReturn("POL12345");
+
+    // When
+    var result = ordersService.createOrder(orderRequest);
+
+    // Then
+    assertEquals("POL12345", result);
+    verify(ordersClient, never()).createOrderAsResponse(any());
+  }
+
+  @Test
+  void testCreateOrderReplaySkipsValidationAndVendorLookup() {
+    // Given
+    var orderRequest = createOrderRequest("templateId", "Test Order");
+    orderRequest.getMosaicOrder().setVendor("AMAZ");
+    when(orderIdempotencyService.createOrder(eq("key:request-key"), any(), any())).thenReturn("POL12345");
+
+    // When
+    var result = ordersService.createOrder(orderRequest, "request-key");
+
+    // Then
+    assertEquals("POL12345", result);
+    verify(customFieldsService, never()).validateCustomFields(any());
+    verify(organizationService, never()).resolveVendorId(any());
+  }
+
+  @Test
+  void testToIdempotencyKeySeparatesClientKeysFromMosaicOrderIds() {
+    assertEquals("key:mosaic-order-id", OrdersService.toIdempotencyKey("mosaic-order-id", null));
+    assertEquals("order:mosaic-order-id", OrdersService.toIdempotencyKey(null, "mosaic-order-id"));
+    assertEquals("key:request-key", OrdersService.toIdempotencyKey("request-key", "mosaic-order-id"));
+    assertNull(OrdersService.toIdempotencyKey(" ", null));
   }
 
   @Test
@@ -137,25 +281,26 @@ class OrdersServiceTest {
 
     // Then
     verify(ordersClient).createOrderTemplate(orderTemplate);
+    verify(orderTemplateCache).invalidate("template-123");
+    verify(orderTemplateMirror).save(any());
+    verify(orderTemplateCodeService).invalidate();
   }
 
   @Test
   void testGetOrderTemplateById_WhenTemplateExists_ShouldReturnTemplate() throws Exception {
     // Given
     var templateId = "template-123";
-    var compositeTemplate = new CompositePurchaseOrder();
-    compositeTemplate.setId("order-123");
-    var poLineTemplate = new PoLine();
-    poLineTemplate.setId("poline-123");
-
-    setupMockResponse(templateId, compositeTemplate, poLineTemplate);
+    setupMockResponse(templateId, """
+      {"id": "template-123", "orderType": "Ongoing", "titleOrPackage": "Template title"}
+      """);
 
     // When
     var result = ordersService.getOrderTemplateById(templateId);
 
     // Then
-    assertEquals(compositeTemplate, result.getLeft());
-    assertEquals(poLineTemplate, result.getRight());
+    assertEquals(templateId, result.getLeft().getId());
+    assertEquals(CompositePurchaseOrder.OrderType.ONGOING, result.getLeft().getOrderType());
+    assertEquals("Template title", result.getRight().getTitleOrPackage());
     verify(ordersClient).getOrderTemplateAsResponse(templateId);
   }
 
@@ -163,10 +308,7 @@ class OrdersServiceTest {
   void testGetOrderTemplateById_WhenTemplateDoesNotExist_ShouldReturnNull() throws Exception {
     // Given
     var templateId = "non-existent-template";
-    var compositeTemplateWithoutId = new CompositePurchaseOrder(); // id is null by default
-    var poLineTemplate = new PoLine();
-
-    setupMockResponse(templateId, compositeTemplateWithoutId, poLineTemplate);
+    setupMockResponse(templateId, "{}");
 
     // When
     var result = ordersService.getOrderTemplateById(templateId);
@@ -176,6 +318,83 @@ class OrdersServiceTest {
     verify(ordersClient).getOrderTemplateAsResponse(templateId);
   }
 
+  @Test
+  void testGetOrderTemplateById_WhenModOrdersIsAvailable_ShouldNotReadMirror() {
+    var templateId = "template-123";
+    setupMockResponse(templateId, """
+      {"id": "template-123", "titleOrPackage": "Template title"}
+      """);
+
+    var result = ordersService.getOrderTemplateById(templateId);
+
+    assertEquals("Template title", result.getRight().getTitleOrPackage());
+    verify(orderTemplateMirror, never()).find(any());
+  }
+
+  @Test
+  void testGetOrderTemplateById_WhenModOrdersIsUnavailable_ShouldFallBackToMirror() {
+    var templateId = "template-123";
+    when(ordersClient.getOrderTemplateAsResponse(templateId))
+      .thenThrow(new DownstreamUnavailableException("mod-orders", "circuit breaker is open"));
+    when(orderTemplateCache.get(eq(templateId), any()))
+      .thenAnswer(invocation -> invocation.getArgument(1, Function.class).apply(templateId));
+    when(orderTemplateMirror.find(templateId)).thenReturn(objectMapper.readTree("""
+      {"id": "template-123", "titleOrPackage": "Mirrored title"}
+      """));
+
+    var result = ordersService.getOrderTemplateById(templateId);
+
+    assertEquals("Mirrored title", result.getRight().getTitleOrPackage());
+  }
+
+  @Test
+  void testGetOrderTemplateById_WhenModOrdersIsUnavailableAndTemplateIsNotMirrored_ShouldThrow() {
+    var templateId = "template-123";
+    when(orderTemplateCache.get(eq(templateId), any()))
+      .thenThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+
+    assertThrows(HttpServerErrorException.class, () -> ordersService.getOrderTemplateById(templateId));
+    verify(orderTemplateMirror).find(templateId);
+  }
+
+  @Test
+  void testGetOrderTemplateById_WhenTemplateIsNotMirrored_ShouldMirrorFetchedTemplate() {
+    var templateId = "template-123";
+    setupMockResponse(templateId, """
+      {"id": "template-123", "titleOrPackage": "Template title"}
+      """);
+
+    ordersService.getOrderTemplateById(templateId);
+
+    verify(orderTemplateMirror).save(argThat(template -> templateId.equals(template.path("id").asString())));
+  }
+
+  @Test
+  void testGetOrderTemplateById_WhenModOrdersAnswersNotFound_ShouldReturnNull() {
+    var templateId = "template-123";
+    var restClientBuilder = RestClient.builder().baseUrl("http://mod-orders");
+    var server = MockRestServiceServer.bindTo(restClientBuilder).build();
+    server.expect(requestTo("http://mod-orders/orders/order-templates/" + templateId)).andRespond(withResourceNotFound());
+    var client = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClientBuilder.build())).build()
+      .createClient(OrdersClient.class);
+    var service = new OrdersService(client, orderTemplateCache, orderTemplateMirror, orderTemplateCodeService,
+      organizationService, orderIdempotencyService, configurationService, orderStageMetrics, customFieldsService,
+      orderConverter, objectMapper);
+    when(orderTemplateCache.get(eq(templateId), any()))
+      .thenAnswer(invocation -> invocation.getArgument(1, Function.class).apply(templateId));
+
+    assertNull(service.getOrderTemplateById(templateId));
+    server.verify();
+    verify(orderTemplateMirror, never()).find(any());
+  }
+
+  @Test
+  void testResolveTemplateId_WhenTemplateCodeIsGiven_ShouldResolveItToTemplateId() {
+    when(orderTemplateCodeService.resolveTemplateId("MOSAIC")).thenReturn("template-123");
+
+    assertEquals("template-123", ordersService.resolveTemplateId("MOSAIC"));
+  }
+
   // Helper method to create a standard order request
   private MosaicOrderRequest createOrderRequest(String templateId, String title) {
     var mosaicOrder = new MosaicOrder();
@@ -186,19 +405,18 @@ class OrdersServiceTest {
     return orderRequest;
   }
 
-  // Helper method to setup mock response with template objects
-  private void setupMockResponse(String templateId, CompositePurchaseOrder order, PoLine poLine) throws Exception {
-    var inputStream = new ByteArrayInputStream("dummy".getBytes());
-    when(ordersClient.getOrderTemplateAsResponse(templateId)).thenReturn(Optional.of(inputStream));
+  // Helper method to setup mock response with template json, passing it through the template cache
+  @SuppressWarnings("unchecked")
+  private static ByteArrayInputStream createdOrderResponse(String orderId, String poLineNumber) {
+    var json = """
+      {"id": "%s", "poLines": [{"poLineNumber": "%s"}]}""".formatted(orderId, poLineNumber);
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
 
-    when(objectMapper.readValue(any(byte[].class), any(TypeReference.class)))
-      .thenAnswer(invocation -> {
-        var typeRef = invocation.getArgument(1, TypeReference.class);
-        if (typeRef.getType().getTypeName().contains("CompositePurchaseOrder")) {
-          return order;
-        } else {
-          return poLine;
-        }
-      });
+  private void setupMockResponse(String templateId, String templateJson) {
+    var inputStream = new ByteArrayInputStream(templateJson.getBytes(StandardCharsets.UTF_8));
+    when(ordersClient.getOrderTemplateAsResponse(templateId)).thenReturn(Optional.of(inputStream));
+    when(orderTemplateCache.get(eq(templateId), any()))
+      .thenAnswer(invocation -> invocation.getArgument(1, Function.class).apply(templateId));
   }
 }
@@ -2,29 +2,47 @@ package org.folio.mosaic.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import org.folio.mosaic.cache.OrganizationCache;
 import org.folio.mosaic.client.OrganizationsClient;
+import org.folio.mosaic.config.CacheProperties;
+import org.folio.mosaic.exception.InvalidRequestException;
 import org.folio.mosaic.support.CopilotGenerated;
 import org.folio.rest.acq.model.orgs.Organization;
 import org.folio.rest.acq.model.orgs.OrganizationCollection;
+import org.folio.spring.FolioExecutionContext;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 @CopilotGenerated(model = "Claude 4.0")
 class OrganizationServiceTest {
 
   @Mock
   private OrganizationsClient organizationsClient;
-  @InjectMocks
+  @Mock
+  private FolioExecutionContext folioExecutionContext;
   private OrganizationService organizationService;
 
+  @BeforeEach
+  void setUp() {
+    var organizationCache = new OrganizationCache(folioExecutionContext, new CacheProperties(), new SimpleMeterRegistry(),
+      Runnable::run);
+    organizationService = new OrganizationService(organizationsClient, organizationCache);
+  }
+
   @Test
   void testCreate() {
     // Given
@@ -44,7 +62,7 @@ class OrganizationServiceTest {
   void testFindByCode_WhenOrganizationExists_ShouldReturnOrganization() {
     // Given
     var organizationCode = "MOSAIC";
-    var expectedQuery = "code==MOSAIC";
+    var expectedQuery = "code==\"MOSAIC\"";
 
     var organization = new Organization();
     organization.setId("org-456");
@@ -70,7 +88,7 @@ class OrganizationServiceTest {
   void testFindByCode_WhenOrganizationDoesNotExist_ShouldReturnNull() {
     // Given
     var organizationCode = "NON_EXISTENT";
-    var expectedQuery = "code==NON_EXISTENT";
+    var expectedQuery = "code==\"NON_EXISTENT\"";
 
     var organizationCollection = new OrganizationCollection();
     organizationCollection.setOrganizations(List.of()); // Empty list
@@ -90,7 +108,7 @@ class OrganizationServiceTest {
   void testFindByCode_WhenMultipleOrganizationsFound_ShouldReturnNull() {
     // Given
     var organizationCode = "DUPLICATE";
-    var expectedQuery = "code==DUPLICATE";
+    var expectedQuery = "code==\"DUPLICATE\"";
 
     var organization1 = new Organization();
     organization1.setId("org-111");
@@ -120,7 +138,7 @@ class OrganizationServiceTest {
   void testFindByCode_WithSpecialCharacters_ShouldFormatQueryCorrectly() {
     // Given
     var organizationCode = "ORG_WITH-SPECIAL.CHARS";
-    var expectedQuery = "code==ORG_WITH-SPECIAL.CHARS";
+    var expectedQuery = "code==\"ORG_WITH-SPECIAL.CHARS\"";
 
     var organization = new Organization();
     organization.setId("org-special");
@@ -139,4 +157,79 @@ class OrganizationServiceTest {
     assertEquals(organization, result);
     verify(organizationsClient).getOrganizations(expectedQuery);
   }
+
+  @Test
+  void testFindByCode_WithCqlSpecialCharacters_ShouldEscapeThem() {
+    var organizationCollection = new OrganizationCollection();
+    organizationCollection.setOrganizations(List.of());
+
+    when(organizationsClient.getOrganizations("code==\"A\\\"B\\*\"")).thenReturn(organizationCollection);
+
+    assertNull(organizationService.findByCode("A\"B*"));
+  }
+
+  @Test
+  void testFindByCode_WhenCalledTwice_ShouldQueryOnce() {
+    when(organizationsClient.getOrganizations("code==\"MOSAIC\"")).thenReturn(collection(organization("org-456", "MOSAIC")));
+
+    organizationService.findByCode("MOSAIC");
+    var result = organizationService.findByCode("MOSAIC");
+
+    assertEquals("org-456", result.getId());
+    verify(organizationsClient).getOrganizations(anyString());
+  }
+
+  @Test
+  void testCreate_ShouldEvictCachedCode() {
+    var emptyCollection = new OrganizationCollection();
+    emptyCollection.setOrganizations(List.of());
+    when(organizationsClient.getOrganizations("code==\"MOSAIC\""))
+      .thenReturn(emptyCollection, collection(organization("org-456", "MOSAIC")));
+
+    assertNull(organizationService.findByCode("MOSAIC"));
+    organizationService.create(organization("org-456", "MOSAIC"));
+
+    assertEquals("org-456", organizationService.findByCode("MOSAIC").getId());
+    verify(organizationsClient, times(2)).getOrganizations(anyString());
+  }
+
+  @Test
+  void testResolveVendorId_WhenUuidIsGiven_ShouldReturnIt() {
+    var vendorId = "e0fb5df2-cdf1-11e8-a8d5-f2801f1b9fd1";
+
+    assertEquals(vendorId, organizationService.resolveVendorId(vendorId));
+    verifyNoInteractions(organizationsClient);
+  }
+
+  @Test
+  void testResolveVendorId_WhenCodeIsGiven_ShouldResolveItOnce() {
+    when(organizationsClient.getOrganizations("code==\"AMAZ\"")).thenReturn(collection(organization("org-789", "AMAZ")));
+
+    assertEquals("org-789", organizationService.resolveVendorId("AMAZ"));
+    assertEquals("org-789", organizationService.resolveVendorId("AMAZ"));
+    verify(organizationsClient).getOrganizations(anyString());
+  }
+
+  @Test
+  void testResolveVendorId_WhenCodeIsUnknown_ShouldThrow() {
+    var emptyCollection = new OrganizationCollection();
+    emptyCollection.setOrganizations(List.of());
+    when(organizationsClient.getOrganizations("code==\"UNKNOWN\"")).thenReturn(emptyCollection);
+
+    assertThrows(InvalidRequestException.class, () -> organizationService.resolveVendorId("UNKNOWN"));
+  }
+
+  private static Organization organization(String id, String code) {
+    var organization = new Organization();
+    organization.setId(id);
+    organization.setCode(code);
+    return organization;
+  }
+
+  private static OrganizationCollection collection(Organization organization) {
+    var organizationCollection = new OrganizationCollection();
+    organizationCollection.setOrganizations(List.of(organization));
+    organizationCollection.setTotalRecords(1);
+    return organizationCollection;
+  }
 }
@@ -0,0 +1,150 @@
+package org.folio.mosaic.service;
+
+import static org.folio.mosaic.service.TemplateInitService.DEFAULT_TEMPLATE_ID;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.folio.mosaic.config.WarmUpProperties;
+import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.domain.entity.MosaicConfigurationEntity;
+import org.folio.rest.acq.model.mosaic.MosaicConfiguration;
+import org.folio.rest.acq.model.mosaic.MosaicOrder;
+import org.folio.rest.acq.model.orders.CompositePurchaseOrder;
+import org.folio.rest.acq.model.orders.Cost;
+import org.folio.rest.acq.model.orders.PoLine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.web.client.ResourceAccessException;
+
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class WarmUpServiceTest {
+
+  private static final String TEMPLATE_ID = "c3dbb1a2-6e55-4bb1-9c8c-4bfd3a0d8e85";
+
+  @Mock private OrdersService ordersService;
+  @Mock private ConfigurationService configurationService;
+  @Mock private MosaicOrderConverter orderConverter;
+  @Mock private EnabledTenantsService enabledTenantsService;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder()
+    .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+    .build();
+  private WarmUpProperties properties;
+  private WarmUpService warmUpService;
+
+  @BeforeEach
+  void setUp() {
+    properties = new WarmUpProperties();
+    properties.setConversions(5);
+    warmUpService = new WarmUpService(ordersService, configurationService, orderConverter, properties,
+      enabledTenantsService, objectMapper);
+  }
+
+  @Test
+  void testWarmUpTenantLoadsConfiguredTemplate() {
+    when(configurationService.getConfiguration()).thenReturn(new MosaicConfiguration().withDefaultTemplateId(TEMPLATE_ID));
+    when(ordersService.getOrderTemplatePrototype(TEMPLATE_ID)).thenReturn(prototype());
+
+    warmUpService.warmUpTenant();
+
+    verify(ordersService).getOrderTemplatePrototype(TEMPLATE_ID);
+    verify(orderConverter, times(5)).applyOverrides(any(CompositePurchaseOrder.class), any(MosaicOrder.class));
+  }
+
+  @Test
+  void testWarmUpTenantFallsBackToDefaultTemplateId() {
+    when(configurationService.getConfiguration()).thenThrow(new ResourceNotFoundException(MosaicConfigurationEntity.class));
+    when(ordersService.getOrderTemplatePrototype(DEFAULT_TEMPLATE_ID)).thenReturn(prototype());
+
+    warmUpService.warmUpTenant();
+
+    verify(ordersService).getOrderTemplatePrototype(DEFAULT_TEMPLATE_ID);
+  }
+
+  @Test
+  void testWarmUpTenantConvertsBundledTemplateWhenFetchFails() {
+    when(configurationService.getConfiguration()).thenReturn(new MosaicConfiguration().withDefaultTemplateId(TEMPLATE_ID));
+    when(ordersService.getOrderTemplatePrototype(TEMPLATE_ID)).thenThrow(new ResourceAccessException("Connection refused"));
+
+    warmUpService.warmUpTenant();
+
+    verify(orderConverter, times(5)).applyOverrides(any(CompositePurchaseOrder.class), any(MosaicOrder.class));
+  }
+
+  @Test
+  void testRunWarmsUpEnabledTenants() {
+    when(enabledTenantsService.findEnabledTenants()).thenReturn(List.of("diku", "college"));
+    doAnswer(invocation -> {
+      invocation.getArgument(1, Runnable.class).run();
+      return null;
+    }).when(enabledTenantsService).runAsTenant(anyString(), any(Runnable.class));
+    when(configurationService.getConfiguration()).thenReturn(new MosaicConfiguration().withDefaultTemplateId(TEMPLATE_ID));
+    when(ordersService.getOrderTemplatePrototype(TEMPLATE_ID)).thenReturn(prototype());
+
+    warmUpService.run(new DefaultApplicationArguments());
+
+    verify(ordersService, times(2)).getOrderTemplatePrototype(TEMPLATE_ID);
+  }
+
+  @Test
+  void testRunWarmsUpNextTenantsWhenSystemUserLoginFails() {
+    when(enabledTenantsService.findEnabledTenants()).thenReturn(List.of("diku", "college"));
+    doThrow(new IllegalStateException("Failed to login system user"))
+      .when(enabledTenantsService).runAsTenant(eq("diku"), any(Runnable.class));
+    doAnswer(invocation -> {
+      invocation.getArgument(1, Runnable.class).run();
+      return null;
+    }).when(enabledTenantsService).runAsTenant(eq("college"), any(Runnable.class));
+    when(configurationService.getConfiguration()).thenReturn(new MosaicConfiguration().withDefaultTemplateId(TEMPLATE_ID));
+    when(ordersService.getOrderTemplatePrototype(TEMPLATE_ID)).thenReturn(prototype());
+
+    assertDoesNotThrow(() -> warmUpService.run(new DefaultApplicationArguments()));
+
+    verify(ordersService).getOrderTemplatePrototype(TEMPLATE_ID);
+  }
+
+  @Test
+  void testRunDoesNothingWhenDisabledOnStartup() {
+    properties.setOnStartup(false);
+
+    warmUpService.run(new DefaultApplicationArguments());
+
+    verifyNoInteractions(enabledTenantsService, ordersService);
+  }
+
+  @Test
+  void testWarmUpTenantDoesNothingWhenDisabled() {
+    properties.setEnabled(false);
+
+    warmUpService.warmUpTenant();
+
+    verify(ordersService, never()).getOrderTemplatePrototype(anyString());
+  }
+
+  private OrderTemplatePrototype prototype() {
+    var order = new CompositePurchaseOrder().withId(TEMPLATE_ID).withAcqUnitIds(new ArrayList<>());
+    var poLine = new PoLine().withTitleOrPackage("Template title").withCost(new Cost().withCurrency("USD"));
+    return OrderTemplatePrototype.compile(Pair.of(order, poLine), objectMapper);
+  }
+}
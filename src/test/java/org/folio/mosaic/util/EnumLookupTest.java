@@ -0,0 +1,55 @@
+package org.folio.mosaic.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+class EnumLookupTest {
+
+  private enum Source {
+    FIRST, SECOND_VALUE, ONLY_IN_SOURCE;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase().replace('_', ' ');
+    }
+  }
+
+  private enum Target {
+    FIRST, SECOND_VALUE;
+
+    static Target fromValue(String value) {
+      return Arrays.stream(values())
+        .filter(target -> target.name().toLowerCase().replace('_', ' ').equals(value))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException(value));
+    }
+  }
+
+  @Test
+  void testByNameMapsConstantsOfSameName() {
+    var lookup = EnumLookup.byName(Target.class);
+
+    assertEquals(Target.FIRST, lookup.map(Source.FIRST));
+    assertEquals(Target.SECOND_VALUE, lookup.map(Source.SECOND_VALUE));
+    assertNull(lookup.map(null));
+  }
+
+  @Test
+  void testByValueMapsConstantsOfSameValue() {
+    var lookup = EnumLookup.byValue(Target.class, Target::fromValue);
+
+    assertEquals(Target.SECOND_VALUE, lookup.map(Source.SECOND_VALUE));
+  }
+
+  @Test
+  void testMapFailsForUnmatchedConstant() {
+    var lookup = EnumLookup.byName(Target.class);
+
+    assertThrows(IllegalArgumentException.class, () -> lookup.map(Source.ONLY_IN_SOURCE));
+  }
+}
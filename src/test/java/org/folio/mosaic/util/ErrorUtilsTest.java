@@ -2,10 +2,19 @@ package org.folio.mosaic.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+
+import org.folio.mosaic.exception.DownstreamUnavailableException;
+import org.folio.mosaic.exception.ResourceNotFoundException;
+import org.folio.mosaic.exception.TooManyRequestsException;
 import org.folio.mosaic.support.CopilotGenerated;
 import org.folio.mosaic.util.error.ErrorCode;
 import org.folio.mosaic.util.error.ErrorUtils;
+import org.folio.rest.acq.model.orders.OrderTemplate;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
 
 import lombok.val;
 
@@ -43,4 +52,28 @@ class ErrorUtilsTest {
     assertThat(errors.getTotalRecords()).isEqualTo(1);
     assertThat(errors.getErrors().getFirst().getMessage()).isEqualTo(errorMessage);
   }
+
+  @Test
+  void testGetErrorMapsExceptionToErrorCode() {
+    val notFound = ErrorUtils.getError(new ResourceNotFoundException(OrderTemplate.class));
+    val validation = ErrorUtils.getError(HttpClientErrorException.create(HttpStatus.UNPROCESSABLE_CONTENT,
+      "Invalid order", new HttpHeaders(), null, null));
+    val unknown = ErrorUtils.getError(new IllegalStateException());
+
+    assertThat(notFound.getCode()).isEqualTo(ErrorCode.NOT_FOUND_ERROR.getCode());
+    assertThat(notFound.getMessage()).isEqualTo("Resource of type 'OrderTemplate' is not found");
+    assertThat(validation.getCode()).isEqualTo(ErrorCode.VALIDATION_ERROR.getCode());
+    assertThat(unknown.getCode()).isEqualTo(ErrorCode.UNKNOWN_ERROR.getCode());
+    assertThat(unknown.getMessage()).isEqualTo(ErrorCode.UNKNOWN_ERROR.getDescription());
+  }
+
+  @Test
+  void testGetErrorMapsRejectedCallsToErrorCode() {
+    val unavailable = ErrorUtils.getError(new DownstreamUnavailableException("mod-orders", "circuit breaker is open"));
+    val tooManyRequests = ErrorUtils.getError(new TooManyRequestsException("diku", Duration.ofSeconds(2)));
+
+    assertThat(unavailable.getCode()).isEqualTo(ErrorCode.SERVICE_UNAVAILABLE_ERROR.getCode());
+    assertThat(unavailable.getMessage()).isEqualTo("Downstream 'mod-orders' is unavailable: circuit breaker is open");
+    assertThat(tooManyRequests.getCode()).isEqualTo(ErrorCode.TOO_MANY_REQUESTS_ERROR.getCode());
+  }
 }
@@ -0,0 +1,38 @@
+package org.folio.mosaic.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class UuidUtilsTest {
+
+  private static final String ID = "4b2c3a8e-1f0d-4f6a-9c5b-7e8d9a0b1c2d";
+
+  @Test
+  void testIsUuidAcceptsCanonicalForm() {
+    assertTrue(UuidUtils.isUuid(ID));
+    assertTrue(UuidUtils.isUuid(ID.toUpperCase()));
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"1-2-3-4-5", "MOSAIC", "4b2c3a8e1f0d4f6a9c5b7e8d9a0b1c2d", "4b2c3a8e-1f0d-4f6a-9c5b-7e8d9a0b1c2d0",
+    " 4b2c3a8e-1f0d-4f6a-9c5b-7e8d9a0b1c2d", "4b2c3a8e-1f0d-4f6a-9c5b-7e8d9a0b1c2g"})
+  void testIsUuidRejectsNonCanonicalForms(String value) {
+    assertFalse(UuidUtils.isUuid(value));
+    assertNull(UuidUtils.toUuid(value));
+  }
+
+  @Test
+  void testToUuid() {
+    assertEquals(UUID.fromString(ID), UuidUtils.toUuid(ID));
+  }
+}